@@ -0,0 +1,59 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Status;
+import ru.practicum.shareit.booking.dto.ItemBooking;
+import ru.practicum.shareit.item.filter.BookingDate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingDateBenchmark {
+
+    @Param({"LAST", "NEXT"})
+    private BookingDate bookingDate;
+
+    /**
+     * Сколько строк приходится на вещь: запрос возвращает не больше двух, больше бывает при ручной выборке.
+     */
+    @Param({"2", "64"})
+    private int bookingsPerItem;
+
+    private List<ItemBooking> bookings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant now = Instant.now();
+        bookings = new ArrayList<>();
+        for (long i = 0; i < bookingsPerItem; i++) {
+            boolean past = i % 2 == 0;
+            Instant start = past ? now.minus(i + 1, ChronoUnit.DAYS) : now.plus(i + 1, ChronoUnit.DAYS);
+            bookings.add(new ItemBooking(1L, past, i, start, start.plus(1, ChronoUnit.DAYS), Status.APPROVED, 2L, "booker@mail.kz", "Booker"));
+        }
+    }
+
+    @Benchmark
+    public ItemBooking getBooking() {
+        return bookingDate.getBooking(bookings);
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.http.ProblemDetail;
+import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.common.advice.GlobalExceptionHandler;
+import ru.practicum.shareit.config.PreloadedMessageSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ответ на ошибку через GlobalExceptionHandler: прежний ReloadableResourceBundleMessageSource против PreloadedMessageSource.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    @Param({"reloadable", "preloaded"})
+    private String source;
+
+    @Param({"en", "en-US", "ru-RU"})
+    private String locale;
+
+    private GlobalExceptionHandler handler;
+    private NotFoundException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(messageSource());
+        exception = new NotFoundException("errors.404.items");
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(locale));
+    }
+
+    @TearDown
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public ProblemDetail handleCommonException() {
+        return handler.handleCommonException(exception);
+    }
+
+    private MessageSource messageSource() {
+        if ("preloaded".equals(source)) {
+            return new PreloadedMessageSource("classpath:message", List.of(Locale.ROOT, Locale.ENGLISH));
+        }
+        ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasename("classpath:message");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
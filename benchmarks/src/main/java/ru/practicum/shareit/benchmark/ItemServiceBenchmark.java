@@ -0,0 +1,192 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.ItemBooking;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * ItemServiceImpl.getItems на встроенной H2 с миграциями приложения: вещи владельца
+ * с последним/следующим бронированием и комментариями. На тех же данных getItemsBookings
+ * и getItemsBookingsLegacy сравнивают выборку бронирований одним запросом и прежними двумя.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+    private static final long OWNER_ID = 1L;
+    private static final int BOOKERS = 50;
+    private static final int BOOKINGS_PER_ITEM = 4;
+    private static final int COMMENTS_PER_ITEM = 2;
+
+    @Param({"100", "10000"})
+    private int itemsCount;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private ItemRepository itemRepository;
+    private BookingRepository bookingRepository;
+    private LegacyBookingRepository legacyBookingRepository;
+    private ItemMapper itemMapper;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Аргументы командной строки, а не properties(): значения по умолчанию перекрываются application.properties
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--shareit.scheduling.enabled=false",
+                        "--logging.level.root=WARN"
+                );
+        itemService = context.getBean(ItemService.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        legacyBookingRepository = context.getBean(LegacyBookingRepository.class);
+        itemMapper = context.getBean(ItemMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemInfoDto> getItems() {
+        return itemService.getItems(OWNER_ID);
+    }
+
+    /**
+     * Часть getItems, которую заменил findLastAndNextBookings: бронирования вещей без комментариев.
+     */
+    @Benchmark
+    public List<ItemInfoDto> getItemsBookings() {
+        return readOnlyTransaction.execute(status -> {
+            List<Item> items = itemRepository.findByOwnerId(OWNER_ID);
+            Map<Long, List<ItemBooking>> itemIdBookingsMap = bookingRepository.findLastAndNextBookings(itemsIds(items)).stream()
+                    .collect(groupingBy(ItemBooking::itemId));
+            return items.stream()
+                    .map(item -> itemMapper.mapToItemInfoDto(
+                            item, itemIdBookingsMap.getOrDefault(item.getId(), emptyList()), emptyList()))
+                    .toList();
+        });
+    }
+
+    /**
+     * То же через прежние запросы: отдельно последние и следующие бронирования, выбор по дате в памяти,
+     * арендатор подгружается лениво при отображении.
+     */
+    @Benchmark
+    public List<ItemInfoDto> getItemsBookingsLegacy() {
+        return readOnlyTransaction.execute(status -> {
+            List<Item> items = itemRepository.findByOwnerId(OWNER_ID);
+            Set<Long> itemsIds = itemsIds(items);
+            List<Booking> bookings = legacyBookingRepository.findByItemsIdsLastBookings(itemsIds);
+            bookings.addAll(legacyBookingRepository.findByItemsIdsNextBookings(itemsIds));
+            Map<Long, List<Booking>> itemIdBookingsMap = bookings.stream()
+                    .collect(groupingBy(booking -> booking.getItem().getId()));
+            return items.stream()
+                    .map(item -> {
+                        List<Booking> itemBookings = itemIdBookingsMap.getOrDefault(item.getId(), emptyList());
+                        return itemMapper.mapToItemInfoDto(
+                                item,
+                                itemBookings.stream().min(Comparator.comparing(Booking::getStart)).orElse(null),
+                                itemBookings.stream().max(Comparator.comparing(Booking::getStart)).orElse(null),
+                                emptyList()
+                        );
+                    })
+                    .toList();
+        });
+    }
+
+    private static Set<Long> itemsIds(List<Item> items) {
+        return items.stream()
+                .map(Item::getId)
+                .collect(toSet());
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = OWNER_ID; id <= OWNER_ID + BOOKERS; id++) {
+            users.add(new Object[]{id, "user" + id + "@mail.kz", "User " + id});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, email, name) values (?, ?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        Instant now = Instant.now();
+        long bookingId = 1;
+        long commentId = 1;
+        for (long itemId = 1; itemId <= itemsCount; itemId++) {
+            items.add(new Object[]{itemId, "Item " + itemId, "Description of item " + itemId, true, OWNER_ID});
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                // половина бронирований в прошлом, половина в будущем
+                long days = (i % 2 == 0 ? -1 : 1) * (2L + i * 3L);
+                Instant start = now.plus(days, ChronoUnit.DAYS);
+                long bookerId = OWNER_ID + 1 + (bookingId % BOOKERS);
+                bookings.add(new Object[]{bookingId++, Timestamp.from(start), Timestamp.from(start.plus(1, ChronoUnit.DAYS)),
+                        itemId, bookerId, "APPROVED", OWNER_ID});
+            }
+            for (int i = 0; i < COMMENTS_PER_ITEM; i++) {
+                long authorId = OWNER_ID + 1 + (commentId % BOOKERS);
+                comments.add(new Object[]{commentId++, "Comment " + i, itemId, authorId, Timestamp.from(now)});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into item (id, name, description, is_available, owner_id) values (?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate(
+                "insert into booking (id, start_date, end_date, item_id, user_id, status, owner_id) values (?, ?, ?, ?, ?, ?, ?)",
+                bookings);
+        jdbcTemplate.batchUpdate(
+                "insert into comment (id, text, item_id, author_id, created_at) values (?, ?, ?, ?, ?)", comments);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import ru.practicum.shareit.booking.Booking;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Запросы последнего и следующего бронирования в том виде, в каком они были до findLastAndNextBookings.
+ * Нужны только для сравнения в {@link ItemServiceBenchmark}.
+ */
+public interface LegacyBookingRepository extends Repository<Booking, Long> {
+
+    @Query("""
+            select bk
+            from (
+            select max(l_bk.start) as last_bk_date
+            from Booking l_bk
+            where l_bk.item.id in ?1
+            and cast(l_bk.start as date) < current_date
+            group by l_bk.item
+            ) as last_booking_date
+            inner join Booking bk on bk.start = last_booking_date.last_bk_date
+            """)
+    List<Booking> findByItemsIdsLastBookings(Set<Long> itemsIds);
+
+    @Query("""
+            select bk
+            from (
+            select min(l_bk.start) as last_bk_date
+            from Booking l_bk
+            where l_bk.item.id in ?1
+            and cast(l_bk.start as date) > current_date
+            group by l_bk.item
+            ) as last_booking_date
+            inner join Booking bk on bk.start = last_booking_date.last_bk_date
+            """)
+    List<Booking> findByItemsIdsNextBookings(Set<Long> itemsIds);
+}
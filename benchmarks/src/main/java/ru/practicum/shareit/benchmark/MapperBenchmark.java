@@ -0,0 +1,135 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.Phase;
+import ru.practicum.shareit.booking.Status;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.ItemBooking;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.mapper.BookingMapperImpl;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.comment.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.dto.ItemResponseInfo;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.mappers.ItemMapperImpl;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestInfo;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.mapper.ItemRequestMapperImpl;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.mappers.UserMapperImpl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сгенерированные MapStruct мапперы, собранные в Spring контекст так же, как в приложении.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private static final int COMMENTS = 5;
+    private static final int REQUEST_ITEMS = 10;
+
+    private AnnotationConfigApplicationContext context;
+    private ItemMapper itemMapper;
+    private BookingMapper bookingMapper;
+    private ItemRequestMapper itemRequestMapper;
+
+    private Item item;
+    private Booking lastBooking;
+    private Booking nextBooking;
+    private List<ItemBooking> itemBookings;
+    private List<Comment> comments;
+    private ItemRequest itemRequest;
+    private List<ItemResponseInfo> requestItems;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                ItemMapperImpl.class,
+                BookingMapperImpl.class,
+                CommentMapperImpl.class,
+                ItemRequestMapperImpl.class,
+                UserMapperImpl.class
+        );
+        itemMapper = context.getBean(ItemMapper.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        itemRequestMapper = context.getBean(ItemRequestMapper.class);
+
+        Instant now = Instant.now();
+        User owner = User.of(1L, "owner@mail.kz", "Owner");
+        User booker = User.of(2L, "booker@mail.kz", "Booker");
+        User requestor = User.of(3L, "requestor@mail.kz", "Requestor");
+        itemRequest = ItemRequest.of(1L, "Нужна дрель", requestor, now);
+        item = Item.of(1L, owner, "Дрель", "Ударная дрель", true, itemRequest, 0L);
+
+        lastBooking = Booking.of(1L, now.minus(7, ChronoUnit.DAYS), now.minus(5, ChronoUnit.DAYS), item, booker, Status.APPROVED, owner.getId(), Phase.PAST);
+        nextBooking = Booking.of(2L, now.plus(5, ChronoUnit.DAYS), now.plus(7, ChronoUnit.DAYS), item, booker, Status.WAITING, owner.getId(), Phase.FUTURE);
+        itemBookings = List.of(
+                new ItemBooking(1L, true, 1L, lastBooking.getStart(), lastBooking.getEnd(), Status.APPROVED, 2L, "booker@mail.kz", "Booker"),
+                new ItemBooking(1L, false, 2L, nextBooking.getStart(), nextBooking.getEnd(), Status.WAITING, 2L, "booker@mail.kz", "Booker")
+        );
+
+        comments = new ArrayList<>();
+        for (long i = 0; i < COMMENTS; i++) {
+            Comment comment = new Comment();
+            comment.setId(i);
+            comment.setAuthor(booker);
+            comment.setItem(item);
+            comment.setText("Отличная дрель " + i);
+            comments.add(comment);
+        }
+        requestItems = new ArrayList<>();
+        for (long i = 0; i < REQUEST_ITEMS; i++) {
+            requestItems.add(new ItemResponseInfo(i, "Дрель " + i, owner.getId()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemInfoDto itemMapperMapToItemInfoDto() {
+        return itemMapper.mapToItemInfoDto(item, lastBooking, nextBooking, comments);
+    }
+
+    @Benchmark
+    public ItemInfoDto itemMapperMapToItemInfoDtoFromProjection() {
+        return itemMapper.mapToItemInfoDto(item, itemBookings, comments);
+    }
+
+    @Benchmark
+    public BookingDto bookingMapperMapToDto() {
+        return bookingMapper.mapToDto(lastBooking);
+    }
+
+    @Benchmark
+    public ItemRequestInfo itemRequestMapperMapToItemRequestInfo() {
+        return itemRequestMapper.mapToItemRequestInfo(itemRequest, requestItems);
+    }
+}
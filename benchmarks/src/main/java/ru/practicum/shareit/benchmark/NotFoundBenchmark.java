@@ -0,0 +1,91 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.ProblemDetail;
+import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.common.advice.GlobalExceptionHandler;
+import ru.practicum.shareit.config.PreloadedMessageSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ответ 404 на findById(...).orElseThrow(...): исключение без стека против исключения со стеком.
+ * Глубина вызова имитирует стек Spring MVC над сервисом. Аллокации смотреть с -prof gc.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    @Param({"20", "100"})
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+    private final Optional<Object> missing = Optional.empty();
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(
+                new PreloadedMessageSource("classpath:message", List.of(Locale.ROOT, Locale.ENGLISH)));
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public ProblemDetail stackless() {
+        try {
+            return findAtDepth(depth, false);
+        } catch (NotFoundException e) {
+            return handler.handleCommonException(e);
+        }
+    }
+
+    @Benchmark
+    public ProblemDetail withStackTrace() {
+        try {
+            return findAtDepth(depth, true);
+        } catch (NotFoundException e) {
+            return handler.handleCommonException(e);
+        } catch (StackTraceNotFound e) {
+            return handler.handleCommonException(e.exception);
+        }
+    }
+
+    private ProblemDetail findAtDepth(int remaining, boolean withStackTrace) {
+        if (remaining > 0) {
+            return findAtDepth(remaining - 1, withStackTrace);
+        }
+        if (withStackTrace) {
+            missing.orElseThrow(StackTraceNotFound::new);
+        }
+        missing.orElseThrow(() -> new NotFoundException("errors.404.items"));
+        return ProblemDetail.forStatus(200);
+    }
+
+    /**
+     * Прежнее поведение: обычное исключение, собирающее стек при создании.
+     */
+    private static class StackTraceNotFound extends RuntimeException {
+        private final NotFoundException exception = new NotFoundException("errors.404.items");
+
+        StackTraceNotFound() {
+            super("errors.404.items");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.booking.State.ALL;
+import static ru.practicum.shareit.booking.State.WAITING;
+
+/**
+ * BookingServiceImpl.getByOwner для владельца с большой историей бронирований:
+ * первая страница, страница по смещению из середины истории и та же страница по курсору.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OwnerBookingsBenchmark {
+    private static final long OWNER_ID = 1L;
+    private static final int BOOKERS = 100;
+    private static final int ITEMS = 100;
+    private static final int PAGE_SIZE = 10;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"100000"})
+    private int bookingsCount;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private int middleOffset;
+    private long middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:owner-bookings;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        bookingService = context.getBean(BookingService.class);
+        seed(context.getBean(JdbcTemplate.class));
+
+        middleOffset = bookingsCount / 2;
+        List<BookingDto> beforeMiddle = bookingService.getByOwner(OWNER_ID, ALL, middleOffset - 1, 1, null);
+        middleCursor = beforeMiddle.getFirst().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> firstPage() {
+        return bookingService.getByOwner(OWNER_ID, ALL, 0, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public List<BookingDto> middlePageByOffset() {
+        return bookingService.getByOwner(OWNER_ID, ALL, middleOffset, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public List<BookingDto> middlePageByCursor() {
+        return bookingService.getByOwner(OWNER_ID, ALL, 0, PAGE_SIZE, middleCursor);
+    }
+
+    @Benchmark
+    public List<BookingDto> waitingFirstPage() {
+        return bookingService.getByOwner(OWNER_ID, WAITING, 0, PAGE_SIZE, null);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = OWNER_ID; id <= OWNER_ID + BOOKERS; id++) {
+            users.add(new Object[]{id, "user" + id + "@mail.kz", "User " + id});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, email, name) values (?, ?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            items.add(new Object[]{itemId, "Item " + itemId, "Description of item " + itemId, true, OWNER_ID});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into item (id, name, description, is_available, owner_id) values (?, ?, ?, ?, ?)", items);
+
+        Instant now = Instant.now();
+        List<Object[]> bookings = new ArrayList<>(BATCH_SIZE);
+        for (long bookingId = 1; bookingId <= bookingsCount; bookingId++) {
+            // история в прошлом с шагом в час, каждое десятое бронирование ещё ждёт подтверждения
+            Instant start = now.minus(bookingId, ChronoUnit.HOURS);
+            long itemId = 1 + bookingId % ITEMS;
+            long bookerId = OWNER_ID + 1 + bookingId % BOOKERS;
+            String status = bookingId % 10 == 0 ? "WAITING" : "APPROVED";
+            bookings.add(new Object[]{bookingId, Timestamp.from(start), Timestamp.from(start.plus(30, ChronoUnit.MINUTES)),
+                    itemId, bookerId, status, OWNER_ID});
+            if (bookings.size() == BATCH_SIZE) {
+                insertBookings(jdbcTemplate, bookings);
+                bookings.clear();
+            }
+        }
+        insertBookings(jdbcTemplate, bookings);
+    }
+
+    private void insertBookings(JdbcTemplate jdbcTemplate, List<Object[]> bookings) {
+        jdbcTemplate.batchUpdate(
+                "insert into booking (id, start_date, end_date, item_id, user_id, status, owner_id) values (?, ?, ?, ?, ?, ?, ?)",
+                bookings);
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.benchmark;
+
+import com.querydsl.core.types.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.QBooking;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Построение Querydsl предиката для выборки бронирований по состоянию, как в BookingServiceImpl.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatePredicateBenchmark {
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private ru.practicum.shareit.booking.State state;
+
+    private final Long userId = 1L;
+
+    @Benchmark
+    public Predicate getQueryParams() {
+        return QBooking.booking.booker.id.eq(userId).and(state.getQueryParams());
+    }
+}
@@ -0,0 +1,161 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Нагрузка на HTTP API сервера в режиме платформенных потоков (platform) и с профилем virtual-threads.
+ * Сервер поднимается в этом же процессе на случайном порту со встроенной H2, для каждого режима в отдельном форке.
+ * Клиентов больше, чем потоков Tomcat по умолчанию (200), поэтому в режиме platform запросы ждут свободный поток.
+ * Результат - запросов в миллисекунду и средняя задержка по каждому эндпоинту, сохраняется в target/jmh-result.json:
+ * <pre>
+ *     mvn -P jmh -pl benchmarks -am -DskipTests test -Djmh.args="VirtualThreadsLoadBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(VirtualThreadsLoadBenchmark.CLIENTS)
+@Fork(1)
+public class VirtualThreadsLoadBenchmark {
+    static final int CLIENTS = 400;
+    private static final String PLATFORM = "platform";
+    private static final int OWNERS = 100;
+    private static final int BOOKERS = 100;
+    private static final int ITEMS_PER_OWNER = 10;
+    private static final int BOOKINGS_PER_ITEM = 4;
+
+    @Param({PLATFORM, "virtual-threads"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] profiles = PLATFORM.equals(mode) ? new String[]{"test"} : new String[]{"test", mode};
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles(profiles)
+                // Как в ItemServiceBenchmark: аргументы командной строки перекрывают application.properties
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--shareit.scheduling.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.zalando=WARN"
+                );
+        seed(context.getBean(JdbcTemplate.class));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getItems() throws IOException, InterruptedException {
+        return get("/items", randomOwner());
+    }
+
+    @Benchmark
+    public int getOwnerBookings() throws IOException, InterruptedException {
+        return get("/bookings/owner?from=0&size=10", randomOwner());
+    }
+
+    @Benchmark
+    public int getUser() throws IOException, InterruptedException {
+        long userId = randomOwner();
+        return get("/users/" + userId, userId);
+    }
+
+    private int get(String path, long userId) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .GET()
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private static long randomOwner() {
+        return 1 + ThreadLocalRandom.current().nextInt(OWNERS);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= OWNERS + BOOKERS; id++) {
+            users.add(new Object[]{id, "user" + id + "@mail.kz", "User " + id});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, email, name) values (?, ?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        Instant now = Instant.now();
+        long itemId = 1;
+        long bookingId = 1;
+        for (long ownerId = 1; ownerId <= OWNERS; ownerId++) {
+            for (int i = 0; i < ITEMS_PER_OWNER; i++, itemId++) {
+                items.add(new Object[]{itemId, "Item " + itemId, "Description of item " + itemId, true, ownerId});
+                for (int j = 0; j < BOOKINGS_PER_ITEM; j++) {
+                    // половина бронирований в прошлом, половина в будущем
+                    long days = (j % 2 == 0 ? -1 : 1) * (2L + j * 3L);
+                    Instant start = now.plus(days, ChronoUnit.DAYS);
+                    long bookerId = OWNERS + 1 + bookingId % BOOKERS;
+                    bookings.add(new Object[]{bookingId++, Timestamp.from(start), Timestamp.from(start.plus(1, ChronoUnit.DAYS)),
+                            itemId, bookerId, "APPROVED", ownerId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into item (id, name, description, is_available, owner_id) values (?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate(
+                "insert into booking (id, start_date, end_date, item_id, user_id, status, owner_id) values (?, ?, ?, ?, ?, ?, ?)",
+                bookings);
+    }
+}
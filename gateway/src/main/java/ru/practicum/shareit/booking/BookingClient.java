@@ -1,27 +1,35 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.NewBookingRequest;
 import ru.practicum.shareit.booking.dto.State;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restBuilder) {
+    public BookingClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.passthrough:true}") boolean passthrough,
+            RestTemplateBuilder restBuilder,
+            ClientHttpRequestFactory requestFactory
+    ) {
         super(
                 restBuilder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
@@ -33,16 +41,12 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookingsByState(long userId, State state) {
-        return get("?state={state}", userId, Map.of(
-                "state", state.toString()
-        ));
+    public ResponseEntity<Object> getBookingsByState(long userId, State state, int from, int size, @Nullable Long cursor) {
+        return getBookings("", userId, state, from, size, cursor);
     }
 
-    public ResponseEntity<Object> getBookingsByOwner(long userId, State state) {
-        return get("/owner?state={state}", userId, Map.of(
-                "state", state.toString()
-        ));
+    public ResponseEntity<Object> getBookingsByOwner(long userId, State state, int from, int size, @Nullable Long cursor) {
+        return getBookings("/owner", userId, state, from, size, cursor);
     }
 
     public ResponseEntity<Object> updateBooking(long userId, long bookingId, Boolean approved) {
@@ -52,4 +56,17 @@ public class BookingClient extends BaseClient {
         );
         return patch("/{bookingId}?approved={approved}", userId, params, null);
     }
+
+    private ResponseEntity<Object> getBookings(String path, long userId, State state, int from, int size, @Nullable Long cursor) {
+        Map<String, Object> params = new HashMap<>(Map.of(
+                "state", state.toString(),
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get(path + "?state={state}&from={from}&size={size}", userId, params);
+        }
+        params.put("cursor", cursor);
+        return get(path + "?state={state}&from={from}&size={size}&cursor={cursor}", userId, params);
+    }
 }
@@ -1,5 +1,8 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -44,17 +47,29 @@ public class BookingController {
     @GetMapping()
     public ResponseEntity<Object> getByState(
             @RequestHeader("X-Sharer-User-Id") long userId,
-            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state
+            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state,
+            @RequestParam(value = "from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "{errors.400.pagination.from}") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10")
+            @Positive(message = "{errors.400.pagination.size}") @Max(value = 1000, message = "{errors.400.pagination.size}") int size,
+            @RequestParam(value = "cursor", required = false)
+            @Positive(message = "{errors.400.pagination.cursor}") Long cursor
     ) {
-        return bookingClient.getBookingsByState(userId, state);
+        return bookingClient.getBookingsByState(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getByOwner(
             @RequestHeader("X-Sharer-User-Id") long userId,
-            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state
+            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state,
+            @RequestParam(value = "from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "{errors.400.pagination.from}") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10")
+            @Positive(message = "{errors.400.pagination.size}") @Max(value = 1000, message = "{errors.400.pagination.size}") int size,
+            @RequestParam(value = "cursor", required = false)
+            @Positive(message = "{errors.400.pagination.cursor}") Long cursor
     ) {
-        return bookingClient.getBookingsByOwner(userId, state);
+        return bookingClient.getBookingsByOwner(userId, state, from, size, cursor);
     }
 
     @PatchMapping("/{bookingId}")
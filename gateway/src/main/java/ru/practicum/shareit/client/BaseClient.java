@@ -6,17 +6,22 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
 public class BaseClient {
     protected RestTemplate rest;
+    private final boolean passthrough;
 
-    public BaseClient(RestTemplate rest) {
+    public BaseClient(RestTemplate rest, boolean passthrough) {
         this.rest = rest;
+        this.passthrough = passthrough;
     }
 
     protected <T> ResponseEntity<Object> post(String path, T body) {
@@ -79,20 +84,69 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    /**
+     * GET без буферизации ответа: тело сервера передается extractor как поток.
+     */
+    protected <T> T stream(String path, long userId, MediaType accept, Map<String, Object> parameters, ResponseExtractor<T> extractor) {
+        return rest.execute(path, HttpMethod.GET, request -> {
+            request.getHeaders().setAccept(List.of(accept));
+            request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+        }, extractor, parameters);
+    }
+
+    /**
+     * POST без буферизации запроса: тело клиента передается серверу потоком, ответ возвращается как есть.
+     */
+    protected ResponseEntity<Object> upload(String path, long userId, MediaType contentType, InputStream body) {
+        try {
+            return rest.execute(path, HttpMethod.POST, request -> {
+                request.getHeaders().setContentType(contentType);
+                request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+                if (request instanceof StreamingHttpOutputMessage streaming) {
+                    streaming.setBody(out -> body.transferTo(out));
+                } else {
+                    body.transferTo(request.getBody());
+                }
+            }, response -> ResponseEntity.status(response.getStatusCode())
+                    .headers(contentTypeOf(response.getHeaders()))
+                    .body(response.getBody().readAllBytes()));
+        } catch (HttpStatusCodeException e) {
+            return errorResponse(e);
+        }
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+            if (passthrough) {
+                return passthroughResponse(exchange(method, path, parameters, requestEntity, byte[].class));
             }
+            return prepareGatewayResponse(exchange(method, path, parameters, requestEntity, Object.class));
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return errorResponse(e);
         }
-        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private static ResponseEntity<Object> errorResponse(HttpStatusCodeException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .headers(contentTypeOf(e.getResponseHeaders()))
+                .body(e.getResponseBodyAsByteArray());
+    }
+
+    private <T, R> ResponseEntity<R> exchange(HttpMethod method, String path, @Nullable Map<String, Object> parameters, HttpEntity<T> requestEntity, Class<R> responseType) {
+        if (parameters != null) {
+            return rest.exchange(path, method, requestEntity, responseType, parameters);
+        }
+        return rest.exchange(path, method, requestEntity, responseType);
+    }
+
+    private static ResponseEntity<Object> passthroughResponse(ResponseEntity<byte[]> response) {
+        // Тело сервера целиком читается в byte[] и отдается клиенту как есть, без разбора в объекты и повторной сериализации
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(contentTypeOf(response.getHeaders()))
+                .body(response.getBody());
     }
 
     private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
@@ -109,6 +163,14 @@ public class BaseClient {
         return responseBuilder.build();
     }
 
+    private static HttpHeaders contentTypeOf(@Nullable HttpHeaders upstreamHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (upstreamHeaders != null && upstreamHeaders.getContentType() != null) {
+            headers.setContentType(upstreamHeaders.getContentType());
+        }
+        return headers;
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
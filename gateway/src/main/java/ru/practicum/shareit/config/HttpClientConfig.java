@@ -0,0 +1,54 @@
+package ru.practicum.shareit.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Один пул соединений к серверу на все клиенты gateway.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient shareItServerHttpClient(HttpClientProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.readTimeout()))
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxTotal())
+                .setMaxConnPerRoute(properties.maxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.requestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.readTimeout()))
+                .setDefaultKeepAlive(properties.keepAlive().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.idleEviction()))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory shareItServerRequestFactory(CloseableHttpClient shareItServerHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(shareItServerHttpClient);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Настройки пула соединений gateway с сервером.
+ *
+ * @param maxTotal          максимум соединений в пуле
+ * @param maxPerRoute       максимум соединений к одному хосту
+ * @param connectTimeout    таймаут установки соединения
+ * @param readTimeout       таймаут ожидания данных от сервера
+ * @param requestTimeout    таймаут ожидания свободного соединения из пула
+ * @param keepAlive         сколько держать соединение, если сервер не прислал Keep-Alive
+ * @param idleEviction      через сколько простоя соединение закрывается
+ */
+@ConfigurationProperties("shareit-server.http")
+public record HttpClientProperties(
+        @DefaultValue("200") int maxTotal,
+        @DefaultValue("100") int maxPerRoute,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("30s") Duration readTimeout,
+        @DefaultValue("2s") Duration requestTimeout,
+        @DefaultValue("30s") Duration keepAlive,
+        @DefaultValue("60s") Duration idleEviction
+) {
+}
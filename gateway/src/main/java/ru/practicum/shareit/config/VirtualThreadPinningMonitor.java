@@ -0,0 +1,63 @@
+package ru.practicum.shareit.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Пишет в лог события JFR jdk.VirtualThreadPinned: виртуальный поток не смог отпустить
+ * платформенный поток на блокировке (synchronized, native вызов) дольше порога.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.diagnostics.pinned-threads.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${shareit.diagnostics.pinned-threads.threshold:20ms}") Duration threshold
+    ) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::logPinnedThread);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started, threshold {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        recordingStream.close();
+        recordingStream = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void logPinnedThread(RecordedEvent event) {
+        String stackTrace = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining(" <- "));
+        log.warn("Virtual thread pinned for {} ms: {}", event.getDuration().toMillis(), stackTrace);
+    }
+}
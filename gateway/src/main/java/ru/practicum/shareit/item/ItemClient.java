@@ -1,28 +1,44 @@
 package ru.practicum.shareit.item;
 
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.comment.dto.NewCommentRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restBuilder) {
+    public ItemClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.passthrough:true}") boolean passthrough,
+            RestTemplateBuilder restBuilder,
+            ClientHttpRequestFactory requestFactory
+    ) {
         super(
                 restBuilder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
@@ -30,6 +46,14 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDto);
     }
 
+    public ResponseEntity<Object> addItems(long userId, List<ItemDto> itemDtos) {
+        return post("/batch", userId, itemDtos);
+    }
+
+    public ResponseEntity<Object> importItems(long userId, MediaType contentType, InputStream body) {
+        return upload("/import", userId, contentType, body);
+    }
+
     public ResponseEntity<Object> getItems(long userId) {
         return get("", userId);
     }
@@ -38,10 +62,38 @@ public class ItemClient extends BaseClient {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> getItems(long userId, String text) {
-        return get("/search?text={text}", userId, Map.of(
-                "text", text
+    public ResponseEntity<Object> getItems(long userId, String text, int from, int size, @Nullable Long cursor) {
+        Map<String, Object> params = new HashMap<>(Map.of(
+                "text", text,
+                "from", from,
+                "size", size
         ));
+        if (cursor == null) {
+            return get("/search?text={text}&from={from}&size={size}", userId, params);
+        }
+        params.put("cursor", cursor);
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", userId, params);
+    }
+
+    public void streamItems(long userId, String text, HttpServletResponse response) {
+        try {
+            stream("/search?text={text}", userId, MediaType.APPLICATION_NDJSON, Map.of("text", text), serverResponse -> {
+                response.setStatus(serverResponse.getStatusCode().value());
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                serverResponse.getBody().transferTo(response.getOutputStream());
+                return null;
+            });
+        } catch (HttpStatusCodeException e) {
+            response.setStatus(e.getStatusCode().value());
+            if (e.getResponseHeaders() != null && e.getResponseHeaders().getContentType() != null) {
+                response.setContentType(e.getResponseHeaders().getContentType().toString());
+            }
+            try {
+                response.getOutputStream().write(e.getResponseBodyAsByteArray());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
     }
 
     public ResponseEntity<Object> updateItem(long userId, long itemId, UpdateItemRequest request) {
@@ -52,6 +104,14 @@ public class ItemClient extends BaseClient {
         return delete("/" + itemId, userId);
     }
 
+    public ResponseEntity<Object> getComments(long userId, long itemId, int from, int size) {
+        return get("/" + itemId + "/comments?from={from}&size={size}", userId, Map.of("from", from, "size", size));
+    }
+
+    public ResponseEntity<Object> getAvailability(long userId, long itemId, LocalDateTime from, LocalDateTime to) {
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, Map.of("from", from, "to", to));
+    }
+
     public ResponseEntity<Object> addComment(long userId, long itemId, NewCommentRequest request) {
         return post("/" + itemId + "/comment", userId, request);
     }
@@ -1,9 +1,16 @@
 package ru.practicum.shareit.item;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -20,12 +27,18 @@ import ru.practicum.shareit.item.comment.dto.NewCommentRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Slf4j
 @Validated
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/items")
 public class ItemController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final ItemClient itemClient;
 
     @PostMapping
@@ -52,9 +65,24 @@ public class ItemController {
     @GetMapping("/search")
     public ResponseEntity<Object> getItemsByQuery(
             @RequestHeader("X-Sharer-User-Id") long userId,
-            @RequestParam(value = "text", required = false, defaultValue = "") String text
+            @RequestParam(value = "text", required = false, defaultValue = "") String text,
+            @RequestParam(value = "from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "{errors.400.pagination.from}") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10")
+            @Positive(message = "{errors.400.pagination.size}") @Max(value = 1000, message = "{errors.400.pagination.size}") int size,
+            @RequestParam(value = "cursor", required = false)
+            @Positive(message = "{errors.400.pagination.cursor}") Long cursor
+    ) {
+        return itemClient.getItems(userId, text, from, size, cursor);
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamItemsByQuery(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestParam(value = "text", required = false, defaultValue = "") String text,
+            HttpServletResponse response
     ) {
-        return itemClient.getItems(userId, text);
+        itemClient.streamItems(userId, text, response);
     }
 
     @PatchMapping("/{itemId}")
@@ -74,6 +102,48 @@ public class ItemController {
         return itemClient.deleteItem(userId, itemId);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> addAll(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "Плохой идентификатор") long userId,
+            @RequestBody
+            @Size(min = 1, max = 10000, message = "{errors.400.batch.size}") List<@Valid ItemDto> itemDtos
+    ) {
+        return itemClient.addItems(userId, itemDtos);
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<Object> getComments(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @PathVariable("itemId") long itemId,
+            @RequestParam(value = "from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "{errors.400.pagination.from}") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10")
+            @Positive(message = "{errors.400.pagination.size}") @Max(value = 1000, message = "{errors.400.pagination.size}") int size
+    ) {
+        return itemClient.getComments(userId, itemId, from, size);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getAvailability(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @PathVariable("itemId") long itemId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return itemClient.getAvailability(userId, itemId, from, to);
+    }
+
+    /**
+     * Файл не разбирается в gateway и уходит на сервер потоком, строки проверяет сервер по правилам ItemDto.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<Object> importItems(
+            @RequestHeader("X-Sharer-User-Id") @Positive(message = "Плохой идентификатор") long userId,
+            HttpServletRequest request
+    ) throws IOException {
+        return itemClient.importItems(userId, MediaType.parseMediaType(request.getContentType()), request.getInputStream());
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<Object> saveComment(
             @RequestHeader("X-Sharer-User-Id") long userId,
@@ -1,24 +1,43 @@
 package ru.practicum.shareit.request;
 
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
+    private static final int EVENT_BUFFER_SIZE = 8192;
 
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restBuilder) {
+    public ItemRequestClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.passthrough:true}") boolean passthrough,
+            RestTemplateBuilder restBuilder,
+            ClientHttpRequestFactory requestFactory
+    ) {
         super(
                 restBuilder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
@@ -26,15 +45,62 @@ public class ItemRequestClient extends BaseClient {
         return post("", userId, request);
     }
 
-    public ResponseEntity<Object> getUserItemRequests(long userId) {
-        return get("", userId);
+    public ResponseEntity<Object> getUserItemRequests(long userId, int from, int size, @Nullable Long cursor) {
+        return getItemRequests("", userId, from, size, cursor);
     }
 
-    public ResponseEntity<Object> getItemRequests(long userId) {
-        return get("/all", userId);
+    public ResponseEntity<Object> getItemRequests(long userId, int from, int size, @Nullable Long cursor) {
+        return getItemRequests("/all", userId, from, size, cursor);
     }
 
     public ResponseEntity<Object> getItemRequest(long userId, long requestId) {
         return get("/" + requestId, userId);
     }
+
+    /**
+     * События сервера пересылаются клиенту по мере поступления, буфер сбрасывается после каждой порции.
+     * Соединение держит поток запроса, пока открыт поток событий.
+     */
+    public void subscribe(long userId, HttpServletResponse response) {
+        try {
+            stream("/subscribe", userId, MediaType.TEXT_EVENT_STREAM, Map.of(), serverResponse -> {
+                response.setStatus(serverResponse.getStatusCode().value());
+                response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+                relayEvents(serverResponse.getBody(), response.getOutputStream());
+                return null;
+            });
+        } catch (HttpStatusCodeException e) {
+            response.setStatus(e.getStatusCode().value());
+            if (e.getResponseHeaders() != null && e.getResponseHeaders().getContentType() != null) {
+                response.setContentType(e.getResponseHeaders().getContentType().toString());
+            }
+            try {
+                response.getOutputStream().write(e.getResponseBodyAsByteArray());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private static void relayEvents(InputStream events, OutputStream out) throws IOException {
+        byte[] buffer = new byte[EVENT_BUFFER_SIZE];
+        int read;
+        while ((read = events.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            out.flush();
+        }
+    }
+
+    private ResponseEntity<Object> getItemRequests(String path, long userId, int from, int size, @Nullable Long cursor) {
+        Map<String, Object> params = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get(path + "?from={from}&size={size}", userId, params);
+        }
+        params.put("cursor", cursor);
+        return get(path + "?from={from}&size={size}&cursor={cursor}", userId, params);
+    }
 }
@@ -1,7 +1,12 @@
 package ru.practicum.shareit.request;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 @Slf4j
@@ -30,13 +36,37 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> get(@RequestHeader("X-Sharer-User-Id") long userId) {
-        return itemRequestClient.getUserItemRequests(userId);
+    public ResponseEntity<Object> get(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestParam(value = "from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "{errors.400.pagination.from}") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10")
+            @Positive(message = "{errors.400.pagination.size}") @Max(value = 1000, message = "{errors.400.pagination.size}") int size,
+            @RequestParam(value = "cursor", required = false)
+            @Positive(message = "{errors.400.pagination.cursor}") Long cursor
+    ) {
+        return itemRequestClient.getUserItemRequests(userId, from, size, cursor);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll(@RequestHeader("X-Sharer-User-Id") long userId) {
-        return itemRequestClient.getItemRequests(userId);
+    public ResponseEntity<Object> getAll(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestParam(value = "from", required = false, defaultValue = "0")
+            @PositiveOrZero(message = "{errors.400.pagination.from}") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10")
+            @Positive(message = "{errors.400.pagination.size}") @Max(value = 1000, message = "{errors.400.pagination.size}") int size,
+            @RequestParam(value = "cursor", required = false)
+            @Positive(message = "{errors.400.pagination.cursor}") Long cursor
+    ) {
+        return itemRequestClient.getItemRequests(userId, from, size, cursor);
+    }
+
+    @GetMapping(path = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void subscribe(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            HttpServletResponse response
+    ) {
+        itemRequestClient.subscribe(userId, response);
     }
 
     @GetMapping("/{requestId}")
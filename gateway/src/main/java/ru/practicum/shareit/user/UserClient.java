@@ -3,23 +3,31 @@ package ru.practicum.shareit.user;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.List;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder restBuilder) {
+    public UserClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            @Value("${shareit-server.passthrough:true}") boolean passthrough,
+            RestTemplateBuilder restBuilder,
+            ClientHttpRequestFactory requestFactory
+    ) {
         super(
                 restBuilder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
@@ -27,6 +35,10 @@ public class UserClient extends BaseClient {
         return post("", request);
     }
 
+    public ResponseEntity<Object> addUsers(List<UserDto> requests) {
+        return post("/batch", requests);
+    }
+
     public ResponseEntity<Object> getUser(long userId) {
         return get("/" + userId);
     }
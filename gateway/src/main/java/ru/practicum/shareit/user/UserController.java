@@ -1,6 +1,7 @@
 package ru.practicum.shareit.user;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.List;
+
 @Slf4j
 @Controller
 @RequestMapping("/users")
@@ -31,6 +34,14 @@ public class UserController {
         return userClient.addUser(userDto);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> addNewUsers(
+            @RequestBody
+            @Size(min = 1, max = 10000, message = "{errors.400.batch.size}") List<@Valid UserDto> userDtos
+    ) {
+        return userClient.addUsers(userDtos);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Object> getUserById(@PathVariable("id") Long id) {
         return userClient.getUser(id);
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BaseClientTest {
+
+    private RestTemplate rest;
+    private MockRestServiceServer server;
+    private BaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        rest = new RestTemplate();
+        server = MockRestServiceServer.bindTo(rest).build();
+        client = new BaseClient(rest, true);
+    }
+
+    @Test
+    void get_shouldPassServerBodyThroughUnchanged() {
+        // given
+        String body = "{\"id\":1,\"name\":\"Дрель\"}";
+        server.expect(requestTo("/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when
+        ResponseEntity<Object> response = client.get("/items/1", 7L);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isInstanceOf(byte[].class);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void get_shouldKeepStatusAndContentType_whenServerRespondsWithError() {
+        // given
+        String body = "{\"status\":404,\"detail\":\"Вещь не найдена\"}";
+        server.expect(requestTo("/items/2"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                        .body(body));
+
+        // when
+        ResponseEntity<Object> response = client.get("/items/2", 7L);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void get_shouldDeserializeServerBody_whenPassthroughIsDisabled() {
+        // given
+        client = new BaseClient(rest, false);
+        server.expect(requestTo("/items/3"))
+                .andRespond(withSuccess("{\"id\":3}", MediaType.APPLICATION_JSON));
+
+        // when
+        ResponseEntity<Object> response = client.get("/items/3", 7L);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(Map.of("id", 3));
+    }
+}
@@ -10,6 +10,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -30,7 +32,8 @@ import java.time.Instant;
 @AllArgsConstructor(staticName = "of")
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "start_date")
@@ -49,4 +52,22 @@ public class Booking {
 
     @Enumerated(value = EnumType.STRING)
     private Status status;
+
+    /**
+     * Владелец вещи, продублирован из item.owner_id для выборки бронирований владельца без join.
+     */
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    /**
+     * Фаза на момент последнего прохода BookingPhaseUpdater, по ней выбираются состояния CURRENT, PAST и FUTURE.
+     */
+    @Enumerated(value = EnumType.STRING)
+    private Phase phase;
+
+    @PrePersist
+    void fillDerivedColumns() {
+        ownerId = item.getOwner().getId();
+        phase = Phase.at(start, end, Instant.now());
+    }
 }
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking;
+
+import java.time.Instant;
+
+/**
+ * Бронирование вещи подтверждено, полуинтервал [start, end) занят.
+ */
+public record BookingApprovedEvent(Long itemId, Instant start, Instant end) {
+}
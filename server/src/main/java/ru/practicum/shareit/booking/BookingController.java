@@ -40,17 +40,23 @@ public class BookingController {
     @GetMapping()
     public List<BookingDto> getByState(
             @RequestHeader("X-Sharer-User-Id") String userId,
-            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state
+            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state,
+            @RequestParam(value = "from", required = false, defaultValue = "0") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) Long cursor
     ) {
-        return bookingService.getByState(Long.valueOf(userId), state);
+        return bookingService.getByState(Long.valueOf(userId), state, from, size, cursor);
     }
 
     @GetMapping("/owner")
     public List<BookingDto> getByOwner(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state
+            @RequestParam(value = "state", defaultValue = "ALL", required = false) State state,
+            @RequestParam(value = "from", required = false, defaultValue = "0") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) Long cursor
     ) {
-        return bookingService.getByOwner(userId, state);
+        return bookingService.getByOwner(userId, state, from, size, cursor);
     }
 
     @PatchMapping("/{bookingId}")
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Продвигает фазы бронирований по расписанию двумя массовыми обновлениями.
+ * Между проходами фаза отстает от времени не больше чем на интервал расписания,
+ * текущее отставание публикуется метрикой shareit.bookings.phase.lag.
+ */
+@Slf4j
+@Component
+public class BookingPhaseUpdater {
+    static final String LAG = "shareit.bookings.phase.lag";
+    static final String TRANSITIONS = "shareit.bookings.phase.transitions";
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter started;
+    private final Counter finished;
+    private volatile Instant advancedAt;
+
+    public BookingPhaseUpdater(
+            BookingRepository bookingRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.started = Counter.builder(TRANSITIONS)
+                .tag("phase", Phase.CURRENT.name())
+                .description("Bookings moved to the phase")
+                .register(meterRegistry);
+        this.finished = Counter.builder(TRANSITIONS)
+                .tag("phase", Phase.PAST.name())
+                .description("Bookings moved to the phase")
+                .register(meterRegistry);
+        Gauge.builder(LAG, this, BookingPhaseUpdater::lagSeconds)
+                .baseUnit("seconds")
+                .description("Time since booking phases were last advanced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Первый проход сразу после старта догоняет фазы, пропущенные пока приложение не работало.
+     * Сначала FUTURE -> CURRENT, затем CURRENT -> PAST, чтобы бронирование, целиком прошедшее
+     * между проходами, сразу попало в PAST.
+     */
+    @Scheduled(fixedDelayString = "${shareit.bookings.phase.interval:PT1M}")
+    public void advance() {
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            started.increment(bookingRepository.startBookings(now));
+            finished.increment(bookingRepository.finishBookings(now));
+        });
+        advancedAt = now;
+        log.debug("Booking phases advanced to {}", now);
+    }
+
+    private double lagSeconds() {
+        Instant at = advancedAt;
+        if (at == null) {
+            return Double.NaN;
+        }
+        return Duration.between(at, Instant.now()).toMillis() / 1000.0;
+    }
+}
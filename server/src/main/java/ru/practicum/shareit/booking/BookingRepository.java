@@ -1,17 +1,39 @@
 package ru.practicum.shareit.booking;
 
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.dto.ItemBooking;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long>, QuerydslPredicateExecutor<Booking> {
 
+    /**
+     * Бронирование с вещью и арендатором одним запросом, их всегда отдаёт BookingMapper.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
+
+    /**
+     * Списки бронирований: вещь и арендатор подгружаются тем же запросом.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    <S extends Booking, R> R findBy(Predicate predicate, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
+
     @Query("""
             select bk
             from Booking bk
@@ -20,29 +42,85 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, Queryds
             """)
     Optional<Booking> findByBookerIdAndItemId(Long bookerId, Long itemId);
 
+    /**
+     * Есть ли подтверждённое бронирование вещи, пересекающееся с полуинтервалом [start, end).
+     * Идёт по индексу idx_booking_item_start, в PostgreSQL те же пересечения запрещает
+     * exclusion-ограничение ex_booking_item_period.
+     */
     @Query("""
-            select bk
-            from (
-            select max(l_bk.start) as last_bk_date
-            from Booking l_bk
-            where l_bk.item.id in ?1
-            and cast(l_bk.start as date) < current_date
-            group by l_bk.item
-            ) as last_booking_date
-            inner join Booking bk on bk.start = last_booking_date.last_bk_date
+            select case when count(bk) > 0 then true else false end
+            from Booking bk
+            where bk.item.id = ?1
+            and bk.status = ru.practicum.shareit.booking.Status.APPROVED
+            and bk.start < ?3
+            and bk.end > ?2
             """)
-    List<Booking> findByItemsIdsLastBookings(Set<Long> itemsIds);
+    boolean existsApprovedOverlap(Long itemId, Instant start, Instant end);
 
+    /**
+     * Периоды подтвержденных бронирований вещи для календаря занятости, по индексу idx_booking_item_start.
+     */
     @Query("""
-            select bk
+            select new ru.practicum.shareit.booking.dto.BookingPeriod(bk.start, bk.end)
+            from Booking bk
+            where bk.item.id = ?1
+            and bk.status = ru.practicum.shareit.booking.Status.APPROVED
+            order by bk.start
+            """)
+    List<BookingPeriod> findApprovedPeriods(Long itemId);
+
+    /**
+     * Начавшиеся к моменту now бронирования переводятся из FUTURE в CURRENT, по индексу idx_booking_phase_start.
+     */
+    @Modifying
+    @Query("""
+            update Booking bk
+            set bk.phase = ru.practicum.shareit.booking.Phase.CURRENT
+            where bk.phase = ru.practicum.shareit.booking.Phase.FUTURE
+            and bk.start <= ?1
+            """)
+    int startBookings(Instant now);
+
+    /**
+     * Закончившиеся к моменту now бронирования переводятся из CURRENT в PAST, по индексу idx_booking_phase_end.
+     */
+    @Modifying
+    @Query("""
+            update Booking bk
+            set bk.phase = ru.practicum.shareit.booking.Phase.PAST
+            where bk.phase = ru.practicum.shareit.booking.Phase.CURRENT
+            and bk.end <= ?1
+            """)
+    int finishBookings(Instant now);
+
+    /**
+     * По одному последнему и одному следующему бронированию на каждую вещь.
+     * Бронирования, начинающиеся сегодня, не считаются ни последними, ни следующими.
+     */
+    @Query("""
+            select new ru.practicum.shareit.booking.dto.ItemBooking(
+            b.itemId, b.past, b.id, b.startDate, b.endDate, b.status, b.bookerId, b.bookerEmail, b.bookerName
+            )
             from (
-            select min(l_bk.start) as last_bk_date
-            from Booking l_bk
-            where l_bk.item.id in ?1
-            and cast(l_bk.start as date) > current_date
-            group by l_bk.item
-            ) as last_booking_date
-            inner join Booking bk on bk.start = last_booking_date.last_bk_date
+            select bk.item.id as itemId,
+            case when cast(bk.start as date) < current_date then true else false end as past,
+            bk.id as id,
+            bk.start as startDate,
+            bk.end as endDate,
+            bk.status as status,
+            u.id as bookerId,
+            u.email as bookerEmail,
+            u.name as bookerName,
+            row_number() over (
+            partition by bk.item.id, case when cast(bk.start as date) < current_date then 0 else 1 end
+            order by case when cast(bk.start as date) < current_date then bk.start end desc, bk.start, bk.id
+            ) as position
+            from Booking bk
+            join bk.booker u
+            where bk.item.id in ?1
+            and cast(bk.start as date) <> current_date
+            ) as b
+            where b.position = 1
             """)
-    List<Booking> findByItemsIdsNextBookings(Set<Long> itemsIds);
+    List<ItemBooking> findLastAndNextBookings(Set<Long> itemsIds);
 }
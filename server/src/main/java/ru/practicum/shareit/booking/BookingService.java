@@ -10,9 +10,9 @@ public interface BookingService {
 
     BookingDto getById(Long userId, Long bookingId);
 
-    List<BookingDto> getByState(Long userId, State state);
+    List<BookingDto> getByState(Long userId, State state, int from, int size, Long cursor);
 
-    List<BookingDto> getByOwner(Long userId, State state);
+    List<BookingDto> getByOwner(Long userId, State state, int from, int size, Long cursor);
 
     BookingDto update(Long userId, Long bookingId, Boolean approved);
 }
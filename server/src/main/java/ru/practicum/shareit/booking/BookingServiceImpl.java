@@ -1,8 +1,8 @@
 package ru.practicum.shareit.booking;
 
-import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
@@ -11,29 +11,35 @@ import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.common.BadRequestException;
 import ru.practicum.shareit.common.NotFoundException;
 import ru.practicum.shareit.common.UnavailableItemException;
+import ru.practicum.shareit.common.pagination.KeysetPaging;
 import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemChangedEvent;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.util.List;
-import java.util.stream.StreamSupport;
 
 import static java.lang.Boolean.FALSE;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final KeysetPaging<Booking> BOOKINGS_PAGING = KeysetPaging.of(QBooking.booking.start, QBooking.booking.id);
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final BookingMapper bookingMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public BookingDto save(Long userId, NewBookingRequest request) {
         Booking booking = buildBooking(userId, request);
+        checkOverlap(booking);
         booking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new ItemChangedEvent(booking.getItem().getId()));
         return bookingMapper.mapToDto(booking);
     }
 
@@ -45,25 +51,20 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getByState(Long userId, State state) {
-        Predicate queryParams = QBooking.booking.booker.id.eq(userId).and(state.getQueryParams());
-        Iterable<Booking> bookings = bookingRepository.findAll(queryParams);
-        return StreamSupport.stream(bookings.spliterator(), false)
+    @Transactional(readOnly = true)
+    public List<BookingDto> getByState(Long userId, State state, int from, int size, Long cursor) {
+        BooleanExpression queryParams = QBooking.booking.booker.id.eq(userId).and(state.getQueryParams());
+        return BOOKINGS_PAGING.find(bookingRepository, queryParams, from, size, cursor).stream()
                 .map(bookingMapper::mapToDto)
                 .toList();
     }
 
     @Override
-    public List<BookingDto> getByOwner(Long userId, State state) {
-        BooleanExpression queryParams = QBooking.booking.booker.id.eq(userId).and(state.getQueryParams());
-        Iterable<Booking> bookingsIt = bookingRepository.findAll(queryParams);
-        List<Booking> bookings = StreamSupport.stream(bookingsIt.spliterator(), false).toList();
-
-        // If converted iterable -> stream is empty
-        if (bookings.isEmpty()) {
-            throw new NotFoundException("errors.404.bookings");
-        }
-        return bookings.stream()
+    @Transactional(readOnly = true)
+    public List<BookingDto> getByOwner(Long userId, State state, int from, int size, Long cursor) {
+        userRepository.findById(userId).orElseThrow(() -> new NotFoundException("errors.404.users"));
+        BooleanExpression queryParams = QBooking.booking.ownerId.eq(userId).and(state.getQueryParams());
+        return BOOKINGS_PAGING.find(bookingRepository, queryParams, from, size, cursor).stream()
                 .map(bookingMapper::mapToDto)
                 .toList();
     }
@@ -80,8 +81,12 @@ public class BookingServiceImpl implements BookingService {
             throw new BadRequestException("errors.400.bookings.not_allowed");
         }
 
-        if (approved) {
+        if (approved && booking.getStatus() != Status.APPROVED) {
+            itemRepository.findWithLockById(booking.getItem().getId());
+            checkOverlap(booking);
             booking.setStatus(Status.APPROVED);
+            eventPublisher.publishEvent(new BookingApprovedEvent(booking.getItem().getId(), booking.getStart(), booking.getEnd()));
+            eventPublisher.publishEvent(new ItemChangedEvent(booking.getItem().getId()));
         }
         return bookingMapper.mapToDto(booking);
     }
@@ -93,6 +98,12 @@ public class BookingServiceImpl implements BookingService {
         return bookingMapper.mapNewRequestToEntity(request, item, user);
     }
 
+    private void checkOverlap(Booking booking) {
+        if (bookingRepository.existsApprovedOverlap(booking.getItem().getId(), booking.getStart(), booking.getEnd())) {
+            throw new UnavailableItemException("errors.400.bookings.overlap");
+        }
+    }
+
     private void checkItemAvailability(Item item) {
         if (FALSE.equals(item.getAvailable())) {
             throw new UnavailableItemException("errors.400.bookings.unavailable");
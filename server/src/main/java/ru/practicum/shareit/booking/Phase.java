@@ -0,0 +1,23 @@
+package ru.practicum.shareit.booking;
+
+import java.time.Instant;
+
+/**
+ * Фаза бронирования относительно текущего момента. Хранится в booking.phase и продвигается
+ * BookingPhaseUpdater только вперед: FUTURE -> CURRENT -> PAST.
+ */
+public enum Phase {
+    FUTURE,
+    CURRENT,
+    PAST;
+
+    public static Phase at(Instant start, Instant end, Instant now) {
+        if (!end.isAfter(now)) {
+            return PAST;
+        }
+        if (!start.isAfter(now)) {
+            return CURRENT;
+        }
+        return FUTURE;
+    }
+}
@@ -2,8 +2,6 @@ package ru.practicum.shareit.booking;
 
 import com.querydsl.core.types.Predicate;
 
-import java.time.Instant;
-
 public enum State implements QueryParameters {
     ALL {
         @Override
@@ -15,24 +13,20 @@ public enum State implements QueryParameters {
     CURRENT {
         @Override
         public Predicate getQueryParams() {
-            Instant now = Instant.now();
-            return QBooking.booking.start.before(now)
-                    .and(QBooking.booking.end.after(now))
+            return QBooking.booking.phase.eq(Phase.CURRENT)
                     .and(QBooking.booking.status.eq(Status.APPROVED));
         }
     },
     PAST {
         @Override
         public Predicate getQueryParams() {
-            Instant now = Instant.now();
-            return QBooking.booking.end.before(now);
+            return QBooking.booking.phase.eq(Phase.PAST);
         }
     },
     FUTURE {
         @Override
         public Predicate getQueryParams() {
-            Instant now = Instant.now();
-            return QBooking.booking.start.after(now);
+            return QBooking.booking.phase.eq(Phase.FUTURE);
         }
     },
     WAITING {
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.Instant;
+
+/**
+ * Полуинтервал [start, end) подтвержденного бронирования.
+ */
+public record BookingPeriod(Instant start, Instant end) {
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.Status;
+
+import java.time.Instant;
+
+/**
+ * Последнее (past = true) или следующее бронирование вещи вместе с данными арендатора.
+ */
+public record ItemBooking(
+        Long itemId,
+        boolean past,
+        Long id,
+        Instant start,
+        Instant end,
+        Status status,
+        Long bookerId,
+        String bookerEmail,
+        String bookerName
+) {
+}
@@ -18,6 +18,8 @@ import java.time.LocalDateTime;
 @Mapper(uses = {UserMapper.class, ItemMapper.class})
 public interface BookingMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
+    @Mapping(target = "phase", ignore = true)
     @Mapping(target = "booker", source = "user")
     @Mapping(target = "item", source = "item")
     @Mapping(target = "status", expression = "java(ru.practicum.shareit.booking.Status.WAITING)")
@@ -3,12 +3,16 @@ package ru.practicum.shareit.common;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+/**
+ * Ожидаемая бизнес-ошибка: клиенту уходят только код сообщения и статус, поэтому стек не собирается.
+ * Непредвиденные сбои бросаются обычными исключениями и сохраняют полный стек.
+ */
 @Getter
 public abstract class ShareItException extends RuntimeException {
     final HttpStatus httpStatus;
 
     ShareItException(String message, HttpStatus httpStatus) {
-        super(message);
+        super(message, null, false, false);
         this.httpStatus = httpStatus;
     }
 }
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.common.pagination;
+
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Страница записей в порядке sortPath desc, idPath desc.
+ * Без курсора страница берётся по смещению from, с курсором (id последней полученной записи) - по ключу, без смещения.
+ */
+public final class KeysetPaging<T> {
+    private static final String CURSOR_ALIAS = "last";
+
+    private final DateTimePath<Instant> sortPath;
+    private final NumberPath<Long> idPath;
+    private final Sort order;
+
+    private KeysetPaging(DateTimePath<Instant> sortPath, NumberPath<Long> idPath) {
+        this.sortPath = sortPath;
+        this.idPath = idPath;
+        this.order = Sort.by(Sort.Order.desc(name(sortPath)), Sort.Order.desc(name(idPath)));
+    }
+
+    public static <T> KeysetPaging<T> of(DateTimePath<Instant> sortPath, NumberPath<Long> idPath) {
+        return new KeysetPaging<>(sortPath, idPath);
+    }
+
+    public List<T> find(QuerydslPredicateExecutor<T> repository, BooleanExpression queryParams,
+                        int from, int size, @Nullable Long cursor) {
+        if (cursor == null) {
+            // ScrollPosition.offset(n) указывает на последний уже прочитанный элемент, а не на первый нужный
+            ScrollPosition position = from == 0 ? ScrollPosition.offset() : ScrollPosition.offset(from - 1);
+            return repository.findBy(queryParams, query -> query.sortBy(order)
+                    .limit(size)
+                    .scroll(position)
+                    .getContent());
+        }
+        return repository.findBy(queryParams.and(after(cursor)), query -> query.sortBy(order)
+                .limit(size)
+                .all());
+    }
+
+    /**
+     * Записи после курсора: раньше по sortPath, а при равном значении - с меньшим id.
+     */
+    private BooleanExpression after(long cursor) {
+        PathBuilder<?> last = new PathBuilder<>(sortPath.getRoot().getType(), CURSOR_ALIAS);
+        JPQLQuery<Instant> lastValue = JPAExpressions.select(last.getDateTime(name(sortPath), Instant.class))
+                .from(last)
+                .where(last.getNumber(name(idPath), Long.class).eq(cursor));
+        return sortPath.lt(lastValue)
+                .or(sortPath.eq(lastValue).and(idPath.lt(cursor)));
+    }
+
+    private static String name(Path<?> path) {
+        return path.getMetadata().getName();
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.common.pagination;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Pageable по произвольному смещению from, в отличие от PageRequest которому нужен номер страницы.
+ */
+@Getter
+@EqualsAndHashCode
+public final class OffsetPageRequest implements Pageable {
+    private final long offset;
+    private final int pageSize;
+    private final Sort sort;
+
+    private OffsetPageRequest(long offset, int pageSize, Sort sort) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be less than zero");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        this.offset = offset;
+        this.pageSize = pageSize;
+        this.sort = sort;
+    }
+
+    public static OffsetPageRequest of(long from, int size) {
+        return new OffsetPageRequest(from, size, Sort.unsorted());
+    }
+
+    public static OffsetPageRequest of(long from, int size, Sort sort) {
+        return new OffsetPageRequest(from, size, sort);
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / pageSize);
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageRequest(offset + pageSize, pageSize, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? new OffsetPageRequest(Math.max(0, offset - pageSize), pageSize, sort) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageRequest(0, pageSize, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageRequest((long) pageNumber * pageSize, pageSize, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
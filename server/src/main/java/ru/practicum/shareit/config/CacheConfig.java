@@ -0,0 +1,69 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * Кэши и их ограничения задаются в application.properties (spring.cache.*).
+ * Кэш карточек вещей настраивается отдельно из-за срока жизни, зависящего от даты.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String ITEMS = "items";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> itemsCacheCustomizer(
+            @Value("${shareit.cache.items.ttl:10m}") Duration ttl,
+            @Value("${shareit.cache.items.maximum-size:10000}") long maximumSize
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(ITEMS, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilMidnightExpiry(ttl, Clock.systemDefaultZone()))
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Запись живет не дольше ttl и не переживает полночь: последнее и следующее бронирование
+     * определяются относительно текущей даты.
+     */
+    static class UntilMidnightExpiry implements Expiry<Object, Object> {
+        private final long ttlNanos;
+        private final Clock clock;
+
+        UntilMidnightExpiry(Duration ttl, Clock clock) {
+            this.ttlNanos = ttl.toNanos();
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            ZonedDateTime now = ZonedDateTime.now(clock);
+            ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+            return Math.min(ttlNanos, Duration.between(now, midnight).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
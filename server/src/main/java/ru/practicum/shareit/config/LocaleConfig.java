@@ -2,19 +2,17 @@ package ru.practicum.shareit.config;
 
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
+import java.util.List;
+import java.util.Locale;
+
 @Component
 public class LocaleConfig extends AcceptHeaderLocaleResolver {
 
     @Bean
     public MessageSource messageSource() {
-        ReloadableResourceBundleMessageSource messageSource =
-                new ReloadableResourceBundleMessageSource();
-        messageSource.setBasename("classpath:message");
-        messageSource.setDefaultEncoding("UTF-8");
-        return messageSource;
+        return new PreloadedMessageSource("classpath:message", List.of(Locale.ROOT, Locale.ENGLISH));
     }
 }
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.config;
+
+import jakarta.annotation.Nullable;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Сообщения читаются один раз при старте и хранятся в неизменяемых картах по локалям, без перечитывания файлов.
+ * Поиск идет по точной локали, затем по языку, затем по базовому файлу без суффикса.
+ */
+public class PreloadedMessageSource extends AbstractMessageSource {
+    private final Map<Locale, Map<String, String>> messages;
+    private final Map<Locale, Map<String, MessageFormat>> formats;
+
+    public PreloadedMessageSource(String basename, List<Locale> locales) {
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+        Map<String, String> rootMessages = load(resourceLoader, basename, Locale.ROOT);
+        Map<Locale, Map<String, String>> messages = new HashMap<>();
+        Map<Locale, Map<String, MessageFormat>> formats = new HashMap<>();
+        messages.put(Locale.ROOT, rootMessages);
+        for (Locale locale : locales) {
+            if (locale.equals(Locale.ROOT)) {
+                continue;
+            }
+            // Сообщения локали поверх языка и базового файла, чтобы поиск обходился одним обращением к карте
+            Map<String, String> merged = new HashMap<>(rootMessages);
+            if (!locale.getCountry().isEmpty() && locales.contains(Locale.of(locale.getLanguage()))) {
+                merged.putAll(load(resourceLoader, basename, Locale.of(locale.getLanguage())));
+            }
+            merged.putAll(load(resourceLoader, basename, locale));
+            messages.put(locale, Map.copyOf(merged));
+        }
+        messages.forEach((locale, localeMessages) -> formats.put(locale, compile(localeMessages, locale)));
+        this.messages = Map.copyOf(messages);
+        this.formats = Map.copyOf(formats);
+    }
+
+    @Override
+    @Nullable
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        return messages.get(resolveLocale(locale)).get(code);
+    }
+
+    @Override
+    @Nullable
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        return formats.get(resolveLocale(locale)).get(code);
+    }
+
+    /**
+     * Локаль приходит из Accept-Language, поэтому результат не кэшируется: иначе любой клиент
+     * мог бы заводить новые записи. Поиск - не больше двух обращений к небольшой неизменяемой карте.
+     */
+    private Locale resolveLocale(Locale locale) {
+        if (messages.containsKey(locale)) {
+            return locale;
+        }
+        Locale language = Locale.of(locale.getLanguage());
+        return messages.containsKey(language) ? language : Locale.ROOT;
+    }
+
+    private Map<String, MessageFormat> compile(Map<String, String> localeMessages, Locale locale) {
+        Map<String, MessageFormat> compiled = new HashMap<>();
+        localeMessages.forEach((code, message) -> {
+            try {
+                compiled.put(code, createMessageFormat(message, locale));
+            } catch (IllegalArgumentException e) {
+                // Шаблоны валидатора вида {max} не являются MessageFormat, их подставляет сам валидатор
+                logger.trace("Message " + code + " is not a MessageFormat pattern");
+            }
+        });
+        return Map.copyOf(compiled);
+    }
+
+    private static Map<String, String> load(DefaultResourceLoader resourceLoader, String basename, Locale locale) {
+        String suffix = locale.equals(Locale.ROOT) ? "" : "_" + locale;
+        Resource resource = resourceLoader.getResource(basename + suffix + ".properties");
+        Properties properties = new Properties();
+        try {
+            PropertiesLoaderUtils.fillProperties(properties, new EncodedResource(resource, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load messages from " + resource, e);
+        }
+        Map<String, String> loaded = new HashMap<>();
+        properties.stringPropertyNames().forEach(code -> loaded.put(code, properties.getProperty(code)));
+        return Map.copyOf(loaded);
+    }
+}
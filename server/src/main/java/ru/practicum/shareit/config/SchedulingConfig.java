@@ -0,0 +1,14 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Задачи по расписанию. В тестах выключены, там задачи вызываются напрямую.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "shareit.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Останавливает запуск, если миграции не создали индексы, на которые рассчитаны запросы сервисов.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    private static final Map<String, Set<String>> EXPECTED_INDEXES = Map.of(
+            "booking", Set.of("idx_booking_item_start", "idx_booking_booker_status_start", "idx_booking_booker_start_id",
+                    "idx_booking_owner_start_id", "idx_booking_booker_phase_start_id", "idx_booking_owner_phase_start_id",
+                    "idx_booking_phase_start", "idx_booking_phase_end"),
+            "item", Set.of("idx_item_owner", "idx_item_request"),
+            "comment", Set.of("idx_comment_item_created"),
+            "request", Set.of("idx_request_requestor_created_id", "idx_request_created_id"),
+            "users", Set.of("idx_users_email")
+    );
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> missingIndexes = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, Set<String>> entry : EXPECTED_INDEXES.entrySet()) {
+                Set<String> indexes = getIndexes(metaData, entry.getKey());
+                entry.getValue().stream()
+                        .filter(index -> !indexes.contains(index))
+                        .forEach(index -> missingIndexes.add(entry.getKey() + "." + index));
+            }
+        }
+        if (!missingIndexes.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes: " + missingIndexes);
+        }
+        log.info("All expected database indexes are present");
+    }
+
+    private Set<String> getIndexes(DatabaseMetaData metaData, String table) throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> indexes = new HashSet<>();
+        try (ResultSet resultSet = metaData.getIndexInfo(null, null, tableName, false, true)) {
+            while (resultSet.next()) {
+                String index = resultSet.getString("INDEX_NAME");
+                if (index != null) {
+                    indexes.add(index.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.config.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * SQL-метрики по эндпоинтам (shareit.sql.*), смотреть через /actuator/metrics.
+ * Ожидание соединения из пула в целом публикует Hikari (hikaricp.connections.acquire).
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.metrics.sql.enabled", havingValue = "true")
+public class SqlMetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    HibernatePropertiesCustomizer sqlStatsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatsSessionListener.class.getName());
+            properties.put(AvailableSettings.INTERCEPTOR, new SqlStatsInterceptor());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlMetricsInterceptor(meterRegistry));
+    }
+}
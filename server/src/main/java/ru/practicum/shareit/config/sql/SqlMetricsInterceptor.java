@@ -0,0 +1,81 @@
+package ru.practicum.shareit.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Публикует SQL-счётчики запроса с тегами controller и method обработчика.
+ */
+@RequiredArgsConstructor
+class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+    static final String STATEMENTS = "shareit.sql.statements";
+    static final String JDBC_TIME = "shareit.sql.jdbc.time";
+    static final String CONNECTION_ACQUIRE = "shareit.sql.connection.acquire";
+    static final String ENTITY_LOADS = "shareit.sql.entity.loads";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            SqlRequestStats.begin();
+        }
+        return true;
+    }
+
+    /**
+     * Асинхронный обработчик освобождает поток запроса без afterCompletion, поэтому счётчики снимаются здесь,
+     * чтобы не достаться следующему запросу на этом потоке. Асинхронная диспетчеризация начнёт их заново в preHandle.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlRequestStats.end();
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            @Nullable Exception ex
+    ) {
+        SqlRequestStats stats = SqlRequestStats.end();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Tags tags = Tags.of(
+                "controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName()
+        );
+        DistributionSummary.builder(STATEMENTS)
+                .description("JDBC statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.statements);
+        DistributionSummary.builder(ENTITY_LOADS)
+                .description("Entities loaded per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.entityLoads);
+        Timer.builder(JDBC_TIME)
+                .description("Time spent executing JDBC statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos, TimeUnit.NANOSECONDS);
+        Timer.builder(CONNECTION_ACQUIRE)
+                .description("Time spent waiting for pooled connections per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.connectionAcquireNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.config.sql;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Счётчики SQL текущего HTTP-запроса, хранятся в ThreadLocal потока, который его обрабатывает.
+ * Асинхронный запрос меняет поток, поэтому считается только работа внутри каждой диспетчеризации.
+ */
+final class SqlRequestStats {
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    long statements;
+    long jdbcNanos;
+    long connectionAcquireNanos;
+    long entityLoads;
+
+    private SqlRequestStats() {
+    }
+
+    static void begin() {
+        CURRENT.set(new SqlRequestStats());
+    }
+
+    @Nullable
+    static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Null вне HTTP-запроса: миграции, фоновые задачи, тесты сервисов.
+     */
+    @Nullable
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.config.sql;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Число сущностей, загруженных из результатов запросов.
+ */
+class SqlStatsInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+        return false;
+    }
+}
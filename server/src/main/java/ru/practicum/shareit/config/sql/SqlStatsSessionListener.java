@@ -0,0 +1,53 @@
+package ru.practicum.shareit.config.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Число выполненных JDBC-запросов, их время и время получения соединения из пула.
+ * Hibernate создаёт экземпляр на каждую сессию (hibernate.session.events.auto).
+ */
+public class SqlStatsSessionListener implements SessionEventListener {
+    private long executeStart;
+    private long acquisitionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordStatement();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordStatement();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.connectionAcquireNanos += System.nanoTime() - acquisitionStart;
+        }
+    }
+
+    private void recordStatement() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statements++;
+            stats.jdbcNanos += System.nanoTime() - executeStart;
+        }
+    }
+}
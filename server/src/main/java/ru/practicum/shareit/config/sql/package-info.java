@@ -0,0 +1,5 @@
+@NonNullApi
+
+package ru.practicum.shareit.config.sql;
+
+import org.springframework.lang.NonNullApi;
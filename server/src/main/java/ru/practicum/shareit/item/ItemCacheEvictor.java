@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.config.CacheConfig;
+
+/**
+ * Сбрасывает карточку вещи из кэша после фиксации изменений.
+ * Без транзакции событие обрабатывается сразу.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemCacheEvictor {
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        Cache items = cacheManager.getCache(CacheConfig.ITEMS);
+        if (items != null) {
+            items.evict(event.itemId());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.item;
+
+/**
+ * Изменились данные, из которых собирается карточка вещи: сама вещь, ее бронирования или комментарии.
+ */
+public record ItemChangedEvent(Long itemId) {
+}
@@ -1,6 +1,11 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -11,12 +16,23 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.item.availability.AvailabilitySlot;
+import ru.practicum.shareit.item.availability.ItemAvailability;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.NewCommentRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
+import ru.practicum.shareit.item.imports.ItemImportFormat;
+import ru.practicum.shareit.item.imports.ItemImportReport;
+import ru.practicum.shareit.item.imports.ItemImporter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +40,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemController {
     private final ItemService itemService;
+    private final ItemImporter itemImporter;
+    private final ItemAvailability itemAvailability;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ItemDto add(
@@ -48,9 +67,23 @@ public class ItemController {
 
     @GetMapping("/search")
     public List<ItemDto> getItemsByQuery(
-            @RequestParam(value = "text", required = false, defaultValue = "") String text
+            @RequestParam(value = "text", required = false, defaultValue = "") String text,
+            @RequestParam(value = "from", required = false, defaultValue = "0") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) Long cursor
     ) {
-        return itemService.getItemsByFilter(text);
+        return itemService.getItemsByFilter(text, from, size, cursor);
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamItemsByQuery(
+            @RequestParam(value = "text", required = false, defaultValue = "") String text,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        itemService.streamItemsByFilter(text, item -> writeLine(out, item));
+        out.flush();
     }
 
     @PatchMapping("/{itemId}")
@@ -70,6 +103,27 @@ public class ItemController {
         itemService.deleteItem(Long.valueOf(userId), itemId);
     }
 
+    @PostMapping("/batch")
+    public List<ItemDto> addAll(
+            @RequestHeader("X-Sharer-User-Id") String userId,
+            @RequestBody List<ItemDto> itemDtos
+    ) {
+        return itemService.addNewItems(Long.valueOf(userId), itemDtos);
+    }
+
+    /**
+     * Тело читается из потока запроса по мере разбора, без @RequestBody, чтобы не держать файл в памяти.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ItemImportFormat.TEXT_CSV_VALUE})
+    public ItemImportReport importItems(
+            @RequestHeader("X-Sharer-User-Id") String userId,
+            HttpServletRequest request
+    ) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return itemImporter.importItems(Long.valueOf(userId), ItemImportFormat.of(contentType), request.getInputStream(), charset);
+    }
+
     @PostMapping("/{itemId}/comment")
     public CommentDto saveComment(
             @RequestHeader("X-Sharer-User-Id") String userId,
@@ -78,4 +132,31 @@ public class ItemController {
     ) {
         return itemService.addNewComment(Long.valueOf(userId), itemId, request);
     }
+
+    @GetMapping("/{itemId}/comments")
+    public List<CommentDto> getComments(
+            @PathVariable(name = "itemId") Long itemId,
+            @RequestParam(value = "from", required = false, defaultValue = "0") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size
+    ) {
+        return itemService.getComments(itemId, from, size);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public List<AvailabilitySlot> getAvailability(
+            @PathVariable(name = "itemId") Long itemId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return itemAvailability.getAvailability(itemId, from, to);
+    }
+
+    private void writeLine(OutputStream out, ItemDto item) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(item));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
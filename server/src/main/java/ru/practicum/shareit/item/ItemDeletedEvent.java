@@ -0,0 +1,7 @@
+package ru.practicum.shareit.item;
+
+/**
+ * Вещь удалена владельцем.
+ */
+public record ItemDeletedEvent(Long itemId) {
+}
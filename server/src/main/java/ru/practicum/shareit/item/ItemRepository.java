@@ -1,25 +1,112 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.dto.ItemRequestResponse;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredicateExecutor<Item> {
 
+    String STREAM_FETCH_SIZE = "500";
+
     void deleteItemByOwner_IdAndId(Long ownerId, Long id);
 
+    /**
+     * Блокирует строку вещи до конца транзакции, чтобы подтверждения её бронирований шли по очереди.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item as i where i.id = ?1")
+    Optional<Item> findWithLockById(Long id);
+
+    /**
+     * Атомарное увеличение счетчика в базе, без чтения и перезаписи вещи.
+     */
+    @Modifying
+    @Query("update Item as i set i.commentCount = i.commentCount + 1 where i.id = ?1")
+    void incrementCommentCount(Long id);
+
+    @Query("""
+            select i from Item as i
+            where (i.name ilike ?1 or
+            i.description ilike ?1) and
+            i.available = true
+            order by i.id
+            """)
+    List<Item> searchItemsByTextFilter(String text, Pageable page);
+
+    @Query("""
+            select i from Item as i
+            where (i.name ilike ?1 or
+            i.description ilike ?1) and
+            i.available = true and
+            i.id > ?2
+            order by i.id
+            """)
+    List<Item> searchItemsByTextFilterAfter(String text, Long cursor, Pageable page);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("""
             select i from Item as i
             where (i.name ilike ?1 or
             i.description ilike ?1) and
             i.available = true
+            order by i.id
             """)
-    List<Item> searchItemsByTextFilter(String text);
+    Stream<Item> streamItemsByTextFilter(String text);
+
+    @Query(value = """
+            select i.*
+            from item as i
+            where i.is_available = true and
+            to_tsvector('simple', coalesce(i.name, '') || ' ' || coalesce(i.description, ''))
+            @@ plainto_tsquery('simple', ?1)
+            order by ts_rank(
+            to_tsvector('simple', coalesce(i.name, '') || ' ' || coalesce(i.description, '')),
+            plainto_tsquery('simple', ?1)) desc, i.id
+            """, nativeQuery = true)
+    List<Item> searchItemsByFullText(String text, Pageable page);
+
+    @Query(value = """
+            select i.*
+            from item as i
+            where i.is_available = true and
+            to_tsvector('simple', coalesce(i.name, '') || ' ' || coalesce(i.description, ''))
+            @@ plainto_tsquery('simple', ?1) and
+            i.id > ?2
+            order by i.id
+            """, nativeQuery = true)
+    List<Item> searchItemsByFullTextAfter(String text, Long cursor, Pageable page);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            select i.*
+            from item as i
+            where i.is_available = true and
+            to_tsvector('simple', coalesce(i.name, '') || ' ' || coalesce(i.description, ''))
+            @@ plainto_tsquery('simple', ?1)
+            order by i.id
+            """, nativeQuery = true)
+    Stream<Item> streamItemsByFullText(String text);
 
     @Query("""
             select it
@@ -29,11 +116,14 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
             """)
     List<Item> findByOwnerId(Long ownerId);
 
+    /**
+     * Ответы на запросы: id запроса и владельца берутся из внешних ключей, без join и без загрузки сущностей.
+     */
     @Query("""
-            select it
+            select new ru.practicum.shareit.request.dto.ItemRequestResponse(it.request.id, it.id, it.name, it.owner.id)
             from Item it
-            join fetch it.request
             where it.request.id in ?1
+            order by it.id
             """)
-    List<Item> findByRequestIds(Set<Long> requestIds);
+    List<ItemRequestResponse> findResponsesByRequestIds(Set<Long> requestIds);
 }
\ No newline at end of file
@@ -8,20 +8,27 @@ import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ItemService {
 
     ItemDto addNewItem(Long userId, ItemDto item);
 
+    List<ItemDto> addNewItems(Long userId, List<ItemDto> items);
+
     ItemInfoDto getItem(Long userId, Long itemId);
 
     List<ItemInfoDto> getItems(Long userId);
 
-    List<ItemDto> getItemsByFilter(String text);
+    List<ItemDto> getItemsByFilter(String text, int from, int size, Long cursor);
+
+    void streamItemsByFilter(String text, Consumer<ItemDto> action);
 
     ItemDto editItem(Long userId, Long itemId, UpdateItemRequest request);
 
     void deleteItem(Long userId, long itemId);
 
     CommentDto addNewComment(Long userId, Long itemId, NewCommentRequest request);
+
+    List<CommentDto> getComments(Long itemId, int from, int size);
 }
@@ -1,17 +1,22 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.ItemBooking;
 import ru.practicum.shareit.common.BadRequestException;
 import ru.practicum.shareit.common.ForbiddenException;
 import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.common.pagination.OffsetPageRequest;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.item.comment.Comment;
 import ru.practicum.shareit.item.comment.CommentRepository;
-import ru.practicum.shareit.item.comment.QComment;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.NewCommentRequest;
 import ru.practicum.shareit.item.comment.mapper.CommentMapper;
@@ -19,29 +24,40 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.search.ItemSearch;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.notification.ItemRequestAnsweredEvent;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.util.converter.InstantConverter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.StreamSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
-import static ru.practicum.shareit.item.filter.BookingDate.LAST;
-import static ru.practicum.shareit.item.filter.BookingDate.NEXT;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    private static final int STREAM_CLEAR_INTERVAL = Integer.parseInt(ItemRepository.STREAM_FETCH_SIZE);
+    private static final int BATCH_FLUSH_SIZE = 1000;
+    // Сколько последних комментариев встраивается в карточку вещи, остальные доступны постранично
+    static final int LATEST_COMMENTS = 10;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
@@ -49,6 +65,9 @@ public class ItemServiceImpl implements ItemService {
     private final ItemRequestRepository itemRequestRepository;
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
+    private final ItemSearch itemSearch;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ItemDto addNewItem(Long userId, ItemDto itemDto) {
@@ -57,10 +76,48 @@ public class ItemServiceImpl implements ItemService {
         ItemRequest itemRequest = getItemRequest(itemDto);
         Item item = itemMapper.mapToEntity(itemDto, user, itemRequest);
         itemRepository.save(item);
+        ItemRequestAnsweredEvent.of(item).ifPresent(eventPublisher::publishEvent);
 
         return itemMapper.mapToDto(item);
     }
 
+    @Override
+    @Transactional
+    public List<ItemDto> addNewItems(Long userId, List<ItemDto> itemDtos) {
+        log.info("Save {} items for userId({})", itemDtos.size(), userId);
+        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("errors.404.users"));
+        Map<Long, ItemRequest> itemRequests = getItemRequests(itemDtos);
+        List<ItemDto> saved = new ArrayList<>(itemDtos.size());
+        for (ItemDto itemDto : itemDtos) {
+            Item item = itemMapper.mapToEntity(itemDto, user, itemRequests.get(itemDto.getRequestId()));
+            itemRepository.save(item);
+            ItemRequestAnsweredEvent.of(item).ifPresent(eventPublisher::publishEvent);
+            saved.add(itemMapper.mapToDto(item));
+            // Вставки уходят пачками по hibernate.jdbc.batch_size, а контекст персистентности не растёт
+            if (saved.size() % BATCH_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return saved;
+    }
+
+    private Map<Long, ItemRequest> getItemRequests(List<ItemDto> itemDtos) {
+        Set<Long> requestIds = itemDtos.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+        if (requestIds.isEmpty()) {
+            return emptyMap();
+        }
+        Map<Long, ItemRequest> itemRequests = itemRequestRepository.findAllById(requestIds).stream()
+                .collect(toMap(ItemRequest::getId, Function.identity()));
+        if (itemRequests.size() < requestIds.size()) {
+            throw new NotFoundException("errors.404.requests");
+        }
+        return itemRequests;
+    }
+
     private ItemRequest getItemRequest(ItemDto itemDto) {
         if (itemDto.getRequestId() == null) {
             return null;
@@ -70,51 +127,67 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ITEMS, key = "#itemId", sync = true)
     public ItemInfoDto getItem(Long userId, Long itemId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("errors.404.items"));
-        Set<Long> itemsIds = mapToItemsIds(List.of(item));
-        List<Booking> bookings = bookingRepository.findByItemsIdsLastBookings(itemsIds);
-        bookings.addAll(bookingRepository.findByItemsIdsNextBookings(itemsIds));
-        List<Comment> itemComments = commentRepository.findByItemId(itemId);
-        return itemMapper.mapToItemInfoDto(item, LAST.getBooking(bookings), NEXT.getBooking(bookings), itemComments);
+        List<ItemBooking> bookings = bookingRepository.findLastAndNextBookings(Set.of(itemId));
+        List<Comment> itemComments = commentRepository.findByItemIdOrderByCreatedDescIdDesc(
+                itemId, OffsetPageRequest.of(0, LATEST_COMMENTS));
+        return itemMapper.mapToItemInfoDto(item, bookings, itemComments);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemInfoDto> getItems(Long userId) {
         List<Item> items = itemRepository.findByOwnerId(userId);
         Set<Long> itemsIds = mapToItemsIds(items);
-        Iterable<Comment> comments = commentRepository.findAll(QComment.comment.item.id.in(itemsIds));
-        Map<Long, List<Comment>> itemIdCommentsMap = StreamSupport.stream(comments.spliterator(), false)
+        Map<Long, List<Comment>> itemIdCommentsMap = commentRepository.findLatestByItemsIds(itemsIds, LATEST_COMMENTS).stream()
                 .collect(groupingBy(comment -> comment.getItem().getId()));
-        List<Booking> bookings = bookingRepository.findByItemsIdsLastBookings(itemsIds);
-        bookings.addAll(bookingRepository.findByItemsIdsNextBookings(itemsIds));
-        Map<Long, List<Booking>> itemIdBookingsMap = bookings.stream()
-                .collect(groupingBy(booking -> booking.getItem().getId()));
+        Map<Long, List<ItemBooking>> itemIdBookingsMap = bookingRepository.findLastAndNextBookings(itemsIds).stream()
+                .collect(groupingBy(ItemBooking::itemId));
 
         return items.stream()
-                .map(item -> {
-                    List<Booking> itemBookings = itemIdBookingsMap.getOrDefault(item.getId(), emptyList());
-                    return itemMapper.mapToItemInfoDto(
-                            item,
-                            LAST.getBooking(itemBookings),
-                            NEXT.getBooking(itemBookings),
-                            itemIdCommentsMap.getOrDefault(item.getId(), emptyList())
-                    );
-                })
+                .map(item -> itemMapper.mapToItemInfoDto(
+                        item,
+                        itemIdBookingsMap.getOrDefault(item.getId(), emptyList()),
+                        itemIdCommentsMap.getOrDefault(item.getId(), emptyList())
+                ))
                 .toList();
     }
 
     @Override
-    public List<ItemDto> getItemsByFilter(String text) {
+    public List<ItemDto> getItemsByFilter(String text, int from, int size, Long cursor) {
         if (text.isBlank()) {
             return emptyList();
         }
-        return itemRepository.searchItemsByTextFilter(text).stream()
+        List<Item> items = cursor == null
+                ? itemSearch.search(text, OffsetPageRequest.of(from, size))
+                : itemSearch.searchAfter(text, cursor, size);
+        return items.stream()
                 .map(itemMapper::mapToDto)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamItemsByFilter(String text, Consumer<ItemDto> action) {
+        if (text.isBlank()) {
+            return;
+        }
+        try (Stream<Item> items = itemSearch.stream(text)) {
+            int written = 0;
+            for (Item item : (Iterable<Item>) items::iterator) {
+                action.accept(itemMapper.mapToDto(item));
+                // Сбрасываем контекст персистентности, чтобы он не рос вместе с выборкой
+                if (++written % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     public ItemDto editItem(Long userId, Long itemId, UpdateItemRequest request) {
         // Нахождение вещи которую нужно обновить
@@ -125,12 +198,16 @@ public class ItemServiceImpl implements ItemService {
         }
         item = itemMapper.updateItemFields(item, request);
         itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
         return itemMapper.mapToDto(item);
     }
 
     @Override
+    @Transactional
     public void deleteItem(Long userId, long itemId) {
         itemRepository.deleteItemByOwner_IdAndId(userId, itemId);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
+        eventPublisher.publishEvent(new ItemDeletedEvent(itemId));
     }
 
     @Override
@@ -147,9 +224,22 @@ public class ItemServiceImpl implements ItemService {
                 request.text()
         );
         commentRepository.save(comment);
+        itemRepository.incrementCommentCount(itemId);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
         return commentMapper.mapToDto(comment);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentDto> getComments(Long itemId, int from, int size) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("errors.404.items");
+        }
+        return commentRepository.findByItemIdOrderByCreatedDescIdDesc(itemId, OffsetPageRequest.of(from, size)).stream()
+                .map(commentMapper::mapToDto)
+                .toList();
+    }
+
     private void checkForBooking(Long userId, Long itemId) {
         // check for booking's booker id, item id and booking has to be past
         Booking booking = bookingRepository.findByBookerIdAndItemId(userId, itemId)
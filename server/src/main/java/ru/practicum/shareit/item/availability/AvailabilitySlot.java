@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.availability;
+
+import java.time.LocalDateTime;
+
+/**
+ * Отрезок [start, end) запрошенного периода: вещь свободна или занята подтвержденным бронированием.
+ */
+public record AvailabilitySlot(LocalDateTime start, LocalDateTime end, boolean free) {
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.item.availability;
+
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.util.converter.InstantConverter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Занятые периоды одной вещи: непересекающиеся полуинтервалы в миллисекундах эпохи,
+ * отсортированные по началу. Смежные и пересекающиеся бронирования склеены в один интервал.
+ * Экземпляр неизменяемый, добавление бронирования возвращает новый.
+ */
+final class BusyPeriods {
+    private final long[] starts;
+    private final long[] ends;
+
+    private BusyPeriods(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    static BusyPeriods of(List<BookingPeriod> periods) {
+        List<BookingPeriod> sorted = new ArrayList<>(periods);
+        sorted.sort(Comparator.comparing(BookingPeriod::start));
+        long[] starts = new long[sorted.size()];
+        long[] ends = new long[sorted.size()];
+        int size = 0;
+        for (BookingPeriod period : sorted) {
+            long start = startMillis(period.start());
+            long end = endMillis(period.end());
+            if (size > 0 && start <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], end);
+            } else {
+                starts[size] = start;
+                ends[size] = end;
+                size++;
+            }
+        }
+        return new BusyPeriods(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    /**
+     * Повторное добавление того же бронирования ничего не меняет, поэтому событие,
+     * пришедшее после загрузки уже учтенного бронирования, безопасно.
+     */
+    BusyPeriods withBusy(Instant start, Instant end) {
+        long newStart = startMillis(start);
+        long newEnd = endMillis(end);
+        // Интервалы [first, last) пересекаются с новым или примыкают к нему и склеиваются с ним
+        int first = firstEndingAtOrAfter(newStart);
+        int last = first;
+        while (last < starts.length && starts[last] <= newEnd) {
+            last++;
+        }
+        if (first < last) {
+            newStart = Math.min(newStart, starts[first]);
+            newEnd = Math.max(newEnd, ends[last - 1]);
+        }
+        int size = starts.length - (last - first) + 1;
+        long[] newStarts = new long[size];
+        long[] newEnds = new long[size];
+        System.arraycopy(starts, 0, newStarts, 0, first);
+        System.arraycopy(ends, 0, newEnds, 0, first);
+        newStarts[first] = newStart;
+        newEnds[first] = newEnd;
+        System.arraycopy(starts, last, newStarts, first + 1, starts.length - last);
+        System.arraycopy(ends, last, newEnds, first + 1, ends.length - last);
+        return new BusyPeriods(newStarts, newEnds);
+    }
+
+    /**
+     * Разбивает [from, to) на чередующиеся свободные и занятые отрезки.
+     * Первый затронутый интервал ищется двоичным поиском, дальше обход только по попавшим в период.
+     */
+    List<AvailabilitySlot> slots(Instant from, Instant to) {
+        long fromMillis = startMillis(from);
+        long toMillis = endMillis(to);
+        List<AvailabilitySlot> slots = new ArrayList<>();
+        long cursor = fromMillis;
+        for (int i = firstEndingAfter(fromMillis); i < starts.length && starts[i] < toMillis; i++) {
+            long busyStart = Math.max(starts[i], fromMillis);
+            long busyEnd = Math.min(ends[i], toMillis);
+            if (cursor < busyStart) {
+                slots.add(slot(cursor, busyStart, true));
+            }
+            slots.add(slot(busyStart, busyEnd, false));
+            cursor = busyEnd;
+        }
+        if (cursor < toMillis) {
+            slots.add(slot(cursor, toMillis, true));
+        }
+        return slots;
+    }
+
+    int size() {
+        return starts.length;
+    }
+
+    private int firstEndingAtOrAfter(long millis) {
+        int index = Arrays.binarySearch(ends, millis);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int firstEndingAfter(long millis) {
+        int index = Arrays.binarySearch(ends, millis);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static AvailabilitySlot slot(long start, long end, boolean free) {
+        return new AvailabilitySlot(
+                InstantConverter.toLocalDateTime(Instant.ofEpochMilli(start)),
+                InstantConverter.toLocalDateTime(Instant.ofEpochMilli(end)),
+                free
+        );
+    }
+
+    private static long startMillis(Instant instant) {
+        return instant.toEpochMilli();
+    }
+
+    /**
+     * Конец округляется вверх, чтобы занятый интервал не сужался из-за долей миллисекунды.
+     */
+    private static long endMillis(Instant instant) {
+        return instant.getNano() % 1_000_000 == 0 ? instant.toEpochMilli() : instant.toEpochMilli() + 1;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.item.availability;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.booking.BookingApprovedEvent;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.common.BadRequestException;
+import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.item.ItemDeletedEvent;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.util.converter.InstantConverter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Календарь занятости вещей в памяти. Занятые периоды вещи загружаются из подтвержденных
+ * бронирований при первом обращении, дальше дополняются событиями подтверждения без запросов к базе.
+ * Отменить подтвержденное бронирование нельзя, поэтому интервалы только добавляются.
+ */
+@Component
+public class ItemAvailability {
+    static final String CACHE_NAME = "availability";
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final LoadingCache<Long, BusyPeriods> calendars;
+
+    public ItemAvailability(
+            ItemRepository itemRepository,
+            BookingRepository bookingRepository,
+            MeterRegistry meterRegistry,
+            @Value("${shareit.availability.maximum-size:10000}") long maximumSize,
+            @Value("${shareit.availability.expire-after-access:1h}") Duration expireAfterAccess
+    ) {
+        this.itemRepository = itemRepository;
+        this.bookingRepository = bookingRepository;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, CACHE_NAME);
+    }
+
+    public List<AvailabilitySlot> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("errors.400.items.availability.range");
+        }
+        return calendars.get(itemId).slots(InstantConverter.toInstant(from), InstantConverter.toInstant(to));
+    }
+
+    /**
+     * Если календарь вещи еще не загружен, делать ничего не нужно: загрузка прочитает уже
+     * зафиксированное бронирование. Идущая загрузка той же вещи дождется окончания и дополнится.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingApproved(BookingApprovedEvent event) {
+        calendars.asMap().computeIfPresent(event.itemId(), (itemId, busy) -> busy.withBusy(event.start(), event.end()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemDeleted(ItemDeletedEvent event) {
+        calendars.invalidate(event.itemId());
+    }
+
+    private BusyPeriods load(Long itemId) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("errors.404.items");
+        }
+        return BusyPeriods.of(bookingRepository.findApprovedPeriods(itemId));
+    }
+}
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.item.comment;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
@@ -19,5 +21,31 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Queryds
             """)
     List<Comment> findByItemsIds(Set<Long> itemsIds);
 
-    List<Comment> findByItemId(Long itemId);
+    /**
+     * Страница комментариев вещи, новые первыми.
+     */
+    @EntityGraph(attributePaths = {"author", "item"})
+    List<Comment> findByItemIdOrderByCreatedDescIdDesc(Long itemId, Pageable page);
+
+    /**
+     * Не больше limit последних комментариев каждой вещи, новые первыми.
+     */
+    @Query("""
+            select ct
+            from Comment ct
+            join fetch ct.author
+            join fetch ct.item
+            where ct.id in (
+            select c.id
+            from (
+            select cm.id as id,
+            row_number() over (partition by cm.item.id order by cm.created desc, cm.id desc) as position
+            from Comment cm
+            where cm.item.id in ?1
+            ) as c
+            where c.position <= ?2
+            )
+            order by ct.created desc, ct.id desc
+            """)
+    List<Comment> findLatestByItemsIds(Set<Long> itemsIds, int limit);
 }
@@ -25,4 +25,5 @@ public class ItemInfoDto {
     private BookingDto lastBooking;
     private BookingDto nextBooking;
     private List<CommentDto> comments;
+    private Long commentCount;
 }
@@ -1,24 +1,25 @@
 package ru.practicum.shareit.item.filter;
 
-import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.ItemBooking;
 
-import java.util.Comparator;
 import java.util.List;
 
 public enum BookingDate implements BookingDateFilter {
     LAST {
         @Override
-        public Booking getBooking(List<Booking> bookings) {
+        public ItemBooking getBooking(List<ItemBooking> bookings) {
             return bookings.stream()
-                    .min(Comparator.comparing(Booking::getStart))
+                    .filter(ItemBooking::past)
+                    .findFirst()
                     .orElse(null);
         }
     },
     NEXT {
         @Override
-        public Booking getBooking(List<Booking> bookings) {
+        public ItemBooking getBooking(List<ItemBooking> bookings) {
             return bookings.stream()
-                    .max(Comparator.comparing(Booking::getStart))
+                    .filter(booking -> !booking.past())
+                    .findFirst()
                     .orElse(null);
         }
     }
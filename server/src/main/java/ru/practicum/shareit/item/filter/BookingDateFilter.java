@@ -1,9 +1,9 @@
 package ru.practicum.shareit.item.filter;
 
-import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.ItemBooking;
 
 import java.util.List;
 
 public interface BookingDateFilter {
-    Booking getBooking(List<Booking> bookings);
+    ItemBooking getBooking(List<ItemBooking> bookings);
 }
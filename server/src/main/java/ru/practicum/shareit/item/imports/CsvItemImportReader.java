@@ -0,0 +1,136 @@
+package ru.practicum.shareit.item.imports;
+
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV по RFC 4180 с обязательным заголовком из колонок name, description, available, requestId в любом порядке.
+ * Поля в кавычках могут содержать запятые, переводы строк и удвоенные кавычки. Пустое поле читается как null.
+ */
+class CsvItemImportReader implements ItemImportReader {
+    private static final List<String> COLUMNS = List.of("name", "description", "available", "requestid");
+
+    private final BufferedReader reader;
+    private final int[] columnIndexes = new int[COLUMNS.size()];
+    private long row;
+
+    CsvItemImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = nextRecord();
+        if (header == null) {
+            header = List.of();
+        }
+        List<String> names = header.stream()
+                .map(name -> name == null ? "" : name.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            columnIndexes[i] = names.indexOf(COLUMNS.get(i));
+        }
+    }
+
+    @Override
+    public ItemImportRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = nextRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0) == null);
+        row++;
+        if (columnIndexes[0] < 0 || columnIndexes[1] < 0 || columnIndexes[2] < 0) {
+            throw new MalformedRowException(row);
+        }
+        try {
+            return new ItemImportRow(
+                    row,
+                    field(fields, 0),
+                    field(fields, 1),
+                    parseBoolean(field(fields, 2)),
+                    parseLong(field(fields, 3))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new MalformedRowException(row);
+        }
+    }
+
+    @Nullable
+    private String field(List<String> fields, int column) {
+        int index = columnIndexes[column];
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    @Nullable
+    private static Boolean parseBoolean(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException(value);
+        };
+    }
+
+    @Nullable
+    private static Long parseLong(@Nullable String value) {
+        return value == null ? null : Long.valueOf(value.trim());
+    }
+
+    /**
+     * Поля следующей записи или null в конце потока.
+     */
+    @Nullable
+    private List<String> nextRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(toField(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(toField(field, wasQuoted));
+        return fields;
+    }
+
+    @Nullable
+    private static String toField(StringBuilder field, boolean quoted) {
+        return field.isEmpty() && !quoted ? null : field.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.item.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Формат загружаемого каталога вещей, каждый читает строки из потока по одной.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ItemImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON) {
+        @Override
+        public ItemImportReader open(BufferedReader reader, ObjectMapper objectMapper) {
+            return new NdjsonItemImportReader(reader, objectMapper);
+        }
+    },
+    CSV(MediaType.parseMediaType(ItemImportFormat.TEXT_CSV_VALUE)) {
+        @Override
+        public ItemImportReader open(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+            return new CsvItemImportReader(reader);
+        }
+    };
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    public abstract ItemImportReader open(BufferedReader reader, ObjectMapper objectMapper) throws IOException;
+
+    public static ItemImportFormat of(MediaType contentType) {
+        for (ItemImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + contentType);
+    }
+}
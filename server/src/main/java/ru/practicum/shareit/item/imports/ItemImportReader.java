@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.imports;
+
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Последовательное чтение строк импорта без загрузки всего файла в память.
+ */
+public interface ItemImportReader {
+
+    /**
+     * Следующая строка или null в конце потока.
+     *
+     * @throws MalformedRowException если строку не удалось разобрать, чтение можно продолжить
+     */
+    @Nullable
+    ItemImportRow next() throws IOException;
+}
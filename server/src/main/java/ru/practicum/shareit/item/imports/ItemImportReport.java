@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.imports;
+
+import java.util.List;
+
+/**
+ * Итог импорта: сколько строк сохранено, сколько отклонено и причины по номерам строк.
+ * Для NDJSON номер строки совпадает с номером строки файла, считая пустые.
+ * Для CSV это номер записи без учета заголовка: запись в кавычках может занимать несколько строк файла.
+ */
+public record ItemImportReport(long imported, long failed, List<RowError> errors) {
+
+    public record RowError(long row, String message) {
+    }
+}
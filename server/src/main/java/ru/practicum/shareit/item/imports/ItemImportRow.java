@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.imports;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+/**
+ * Строка импорта. Ограничения те же, что у ItemDto в gateway: файл проходит через gateway без разбора.
+ */
+public record ItemImportRow(
+        long row,
+
+        @NotBlank(message = "{errors.400.items.name}")
+        String name,
+
+        @Size(max = 200, message = "{errors.400.items.description.too_long}")
+        @NotNull(message = "{errors.400.items.description.null}")
+        String description,
+
+        @NotNull(message = "{errors.400.items.available.null}")
+        Boolean available,
+
+        Long requestId
+) {
+    public ItemDto toDto() {
+        return new ItemDto(null, name, description, available, requestId);
+    }
+}
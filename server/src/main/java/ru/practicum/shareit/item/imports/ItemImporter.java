@@ -0,0 +1,174 @@
+package ru.practicum.shareit.item.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.notification.ItemRequestAnsweredEvent;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static ru.practicum.shareit.common.advice.GlobalExceptionHandler.EMPTY_ARGS;
+
+/**
+ * Потоковый импорт вещей: строки читаются по одной, проверяются и сохраняются порциями,
+ * каждая порция в отдельной транзакции. Ошибка строки не прерывает импорт, а попадает в отчет.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemImporter {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemMapper itemMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ItemImportReport importItems(Long userId, ItemImportFormat format, InputStream in, Charset charset) throws IOException {
+        userRepository.findById(userId).orElseThrow(() -> new NotFoundException("errors.404.users"));
+        Report report = new Report();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        ItemImportReader rows = format.open(reader, objectMapper);
+        List<ItemImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (true) {
+            ItemImportRow row;
+            try {
+                row = rows.next();
+            } catch (MalformedRowException e) {
+                report.reject(e.getRow(), resolve(e.getMessage()));
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+            Set<ConstraintViolation<ItemImportRow>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                report.reject(row.row(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                saveChunk(userId, chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(userId, chunk, report);
+        }
+        log.info("Imported {} items for userId({}), {} rows failed", report.imported, userId, report.failed);
+        return report.build();
+    }
+
+    private void saveChunk(Long userId, List<ItemImportRow> chunk, Report report) {
+        List<ItemImportRow> unknownRequest;
+        try {
+            unknownRequest = transactionTemplate.execute(status -> {
+                User owner = entityManager.getReference(User.class, userId);
+                Map<Long, ItemRequest> itemRequests = getItemRequests(chunk);
+                List<ItemImportRow> rejected = new ArrayList<>();
+                for (ItemImportRow row : chunk) {
+                    ItemRequest itemRequest = itemRequests.get(row.requestId());
+                    if (row.requestId() != null && itemRequest == null) {
+                        rejected.add(row);
+                        continue;
+                    }
+                    Item item = itemRepository.save(itemMapper.mapToEntity(row.toDto(), owner, itemRequest));
+                    // Уведомление уйдет после фиксации порции, при откате порции не уйдет
+                    ItemRequestAnsweredEvent.of(item).ifPresent(eventPublisher::publishEvent);
+                }
+                // Вставки порции уходят в базу здесь, ошибка приходит как DataAccessException
+                itemRepository.flush();
+                return rejected;
+            });
+        } catch (DataAccessException e) {
+            // Порция откатилась целиком, поэтому отклоняются все ее строки
+            log.error("Failed to import rows {}-{} for userId({})",
+                    chunk.get(0).row(), chunk.get(chunk.size() - 1).row(), userId, e);
+            String message = resolve("errors.400.items.import.failed");
+            chunk.forEach(row -> report.reject(row.row(), message));
+            return;
+        } finally {
+            // С open-in-view порции делят EntityManager запроса: без очистки он держит все вещи файла
+            entityManager.clear();
+        }
+        String message = resolve("errors.404.requests");
+        Objects.requireNonNull(unknownRequest).forEach(row -> report.reject(row.row(), message));
+        report.imported += chunk.size() - unknownRequest.size();
+    }
+
+    private Map<Long, ItemRequest> getItemRequests(List<ItemImportRow> rows) {
+        Set<Long> requestIds = rows.stream()
+                .map(ItemImportRow::requestId)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+        if (requestIds.isEmpty()) {
+            return emptyMap();
+        }
+        return itemRequestRepository.findAllById(requestIds).stream()
+                .collect(toMap(ItemRequest::getId, Function.identity()));
+    }
+
+    private String resolve(String code) {
+        return messageSource.getMessage(code, EMPTY_ARGS, code, LocaleContextHolder.getLocale());
+    }
+
+    private static class Report {
+        private final List<ItemImportReport.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        void reject(long row, String message) {
+            failed++;
+            // Отчет по огромному файлу с ошибкой в каждой строке не должен расти без ограничений
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ItemImportReport.RowError(row, message));
+            }
+        }
+
+        ItemImportReport build() {
+            return new ItemImportReport(imported, failed, List.copyOf(errors));
+        }
+    }
+}
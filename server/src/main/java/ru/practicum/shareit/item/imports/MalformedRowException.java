@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.imports;
+
+import lombok.Getter;
+
+/**
+ * Строка импорта не разобрана. Остальные строки файла читаются дальше, поэтому стек не собирается.
+ */
+@Getter
+public class MalformedRowException extends RuntimeException {
+    private final long row;
+
+    public MalformedRowException(long row) {
+        super("errors.400.items.import.malformed", null, false, false);
+        this.row = row;
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.item.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Одна вещь в JSON на строку, пустые строки пропускаются, но учитываются в номере строки.
+ */
+@RequiredArgsConstructor
+class NdjsonItemImportReader implements ItemImportReader {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long row;
+
+    @Override
+    public ItemImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            row++;
+        } while (line.isBlank());
+        try {
+            ItemDto item = objectMapper.readValue(line, ItemDto.class);
+            return new ItemImportRow(row, item.getName(), item.getDescription(), item.getAvailable(), item.getRequestId());
+        } catch (JsonProcessingException e) {
+            throw new MalformedRowException(row);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.ItemBooking;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.comment.Comment;
@@ -13,6 +15,7 @@ import ru.practicum.shareit.item.comment.mapper.CommentMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
+import ru.practicum.shareit.item.filter.BookingDate;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
@@ -39,6 +42,7 @@ public interface ItemMapper {
     @Mapping(target = "request", source = "itemRequest")
     @Mapping(target = "description", source = "itemDto.description")
     @Mapping(target = "available", source = "itemDto.available")
+    @Mapping(target = "commentCount", ignore = true)
     Item mapToEntity(ItemDto itemDto, User user, ItemRequest itemRequest);
 
     @Mapping(target = "id", ignore = true)
@@ -47,6 +51,7 @@ public interface ItemMapper {
     @Mapping(target = "available", source = "available", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "request", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
     Item updateItemFields(@MappingTarget Item item, UpdateItemRequest request);
 
     @Mapping(target = "id", source = "item.id")
@@ -55,4 +60,24 @@ public interface ItemMapper {
     @Mapping(target = "name", source = "item.name")
     @Mapping(target = "request", source = "item.request")
     ItemInfoDto mapToItemInfoDto(Item item, Booking lastBooking, Booking nextBooking, List<Comment> comments);
+
+    default ItemInfoDto mapToItemInfoDto(Item item, List<ItemBooking> bookings, List<Comment> comments) {
+        ItemInfoDto itemInfoDto = mapToItemInfoDto(item, null, null, comments);
+        ItemDto itemDto = mapToDto(item);
+        ItemBooking lastBooking = BookingDate.LAST.getBooking(bookings);
+        ItemBooking nextBooking = BookingDate.NEXT.getBooking(bookings);
+        itemInfoDto.setLastBooking(lastBooking == null ? null : mapToBookingDto(lastBooking, itemDto));
+        itemInfoDto.setNextBooking(nextBooking == null ? null : mapToBookingDto(nextBooking, itemDto));
+        return itemInfoDto;
+    }
+
+    @Mapping(target = "id", source = "booking.id")
+    @Mapping(target = "start", source = "booking.start", qualifiedByName = "mapInstantToLocalDateTime")
+    @Mapping(target = "end", source = "booking.end", qualifiedByName = "mapInstantToLocalDateTime")
+    @Mapping(target = "status", source = "booking.status")
+    @Mapping(target = "booker.id", source = "booking.bookerId")
+    @Mapping(target = "booker.email", source = "booking.bookerEmail")
+    @Mapping(target = "booker.name", source = "booking.bookerName")
+    @Mapping(target = "item", source = "item")
+    BookingDto mapToBookingDto(ItemBooking booking, ItemDto item);
 }
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.pagination.OffsetPageRequest;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Полнотекстовый поиск PostgreSQL по GIN индексу idx_item_search, результаты упорядочены по релевантности.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "full-text", matchIfMissing = true)
+public class FullTextItemSearch implements ItemSearch {
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<Item> search(String text, Pageable page) {
+        return itemRepository.searchItemsByFullText(text, page);
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, long cursor, int size) {
+        return itemRepository.searchItemsByFullTextAfter(text, cursor, OffsetPageRequest.of(0, size));
+    }
+
+    @Override
+    public Stream<Item> stream(String text) {
+        return itemRepository.streamItemsByFullText(text);
+    }
+}
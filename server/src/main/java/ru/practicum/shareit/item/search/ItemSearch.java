@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.Item;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Поиск доступных для бронирования вещей по тексту в названии и описании.
+ */
+public interface ItemSearch {
+    List<Item> search(String text, Pageable page);
+
+    /**
+     * Keyset страница: вещи с id больше cursor в порядке возрастания id.
+     */
+    List<Item> searchAfter(String text, long cursor, int size);
+
+    /**
+     * Все найденные вещи в порядке id, читаются из базы порциями. Вызывать внутри транзакции.
+     */
+    Stream<Item> stream(String text);
+}
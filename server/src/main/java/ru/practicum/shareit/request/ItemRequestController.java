@@ -1,15 +1,19 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfo;
+import ru.practicum.shareit.request.notification.ItemRequestNotifier;
 
 import java.util.List;
 
@@ -19,6 +23,7 @@ import java.util.List;
 public class ItemRequestController {
 
     private final ItemRequestService itemRequestService;
+    private final ItemRequestNotifier itemRequestNotifier;
 
     @PostMapping()
     public ItemRequestDto add(
@@ -29,15 +34,31 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public List<ItemRequestInfo> getOwnRequests(@RequestHeader("X-Sharer-User-Id") long userId) {
+    public List<ItemRequestInfo> getOwnRequests(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestParam(value = "from", required = false, defaultValue = "0") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) Long cursor
+    ) {
         // own requests and response
-        return itemRequestService.get(userId);
+        return itemRequestService.get(userId, from, size, cursor);
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAllRequests(@RequestHeader("X-Sharer-User-Id") long userId) {
+    public List<ItemRequestDto> getAllRequests(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestParam(value = "from", required = false, defaultValue = "0") int from,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) Long cursor
+    ) {
         // other requests
-        return itemRequestService.getAll(userId);
+        return itemRequestService.getAll(userId, from, size, cursor);
+    }
+
+    @GetMapping(path = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader("X-Sharer-User-Id") long userId) {
+        // items offered to own requests, pushed instead of polling
+        return itemRequestNotifier.subscribe(userId);
     }
 
     @GetMapping("/{requestId}")
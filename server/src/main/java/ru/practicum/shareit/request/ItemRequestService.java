@@ -8,9 +8,9 @@ import java.util.List;
 public interface ItemRequestService {
     ItemRequestDto addNewItemRequest(long userId, ItemRequestDto request);
 
-    List<ItemRequestInfo> get(long userId);
+    List<ItemRequestInfo> get(long userId, int from, int size, Long cursor);
 
-    List<ItemRequestDto> getAll(long userId);
+    List<ItemRequestDto> getAll(long userId, int from, int size, Long cursor);
 
     ItemRequestInfo get(long userId, long requestId);
 }
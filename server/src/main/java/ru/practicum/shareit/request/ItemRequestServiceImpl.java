@@ -1,15 +1,17 @@
 package ru.practicum.shareit.request;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.NotFoundException;
-import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.common.pagination.KeysetPaging;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemResponseInfo;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfo;
+import ru.practicum.shareit.request.dto.ItemRequestResponse;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
@@ -21,12 +23,17 @@ import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ItemRequestServiceImpl implements ItemRequestService {
+    private static final KeysetPaging<ItemRequest> REQUESTS_PAGING =
+            KeysetPaging.of(QItemRequest.itemRequest.created, QItemRequest.itemRequest.id);
+
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
@@ -44,26 +51,26 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public List<ItemRequestInfo> get(long userId) {
-        // own requests and response
-        Sort byCreated = Sort.by(ItemRequest.Fields.created);
-        List<ItemRequest> userItemRequests = itemRequestRepository.findByRequestorId(userId, byCreated);
+    public List<ItemRequestInfo> get(long userId, int from, int size, Long cursor) {
+        // own requests and responses to them, only for the requested page
+        List<ItemRequest> userItemRequests = REQUESTS_PAGING.find(
+                itemRequestRepository, QItemRequest.itemRequest.requestor.id.eq(userId), from, size, cursor);
 
         Set<Long> userItemRequestsIds = fetchIds(userItemRequests);
 
-        Map<ItemRequest, List<Item>> itemRequestsResponsesMap = itemRepository.findByRequestIds(userItemRequestsIds).stream()
-                .collect(groupingBy(Item::getRequest));
+        Map<Long, List<ItemResponseInfo>> itemRequestsResponsesMap = findResponses(userItemRequestsIds);
 
         return userItemRequests.stream()
-                .map(request -> itemRequestMapper.mapToItemRequestInfo(request, itemRequestsResponsesMap.getOrDefault(request, emptyList())))
+                .map(request -> itemRequestMapper.mapToItemRequestInfo(
+                        request, itemRequestsResponsesMap.getOrDefault(request.getId(), emptyList())))
                 .toList();
     }
 
     @Override
-    public List<ItemRequestDto> getAll(long userId) {
-        // other requests
-        Sort byCreated = Sort.by(ItemRequest.Fields.created);
-        return itemRequestRepository.findAll(byCreated).stream()
+    public List<ItemRequestDto> getAll(long userId, int from, int size, Long cursor) {
+        // other users' requests, the caller's own ones are filtered out by the query
+        BooleanExpression othersRequests = QItemRequest.itemRequest.requestor.id.ne(userId);
+        return REQUESTS_PAGING.find(itemRequestRepository, othersRequests, from, size, cursor).stream()
                 .map(itemRequestMapper::mapToItemRequestDto)
                 .toList();
     }
@@ -73,10 +80,20 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         ItemRequest itemRequest = itemRequestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("errors.404.requests"));
 
-        Map<ItemRequest, List<Item>> itemRequestResponsesMap = itemRepository.findByRequestIds(fetchIds(itemRequest)).stream()
-                .collect(groupingBy(Item::getRequest));
+        Map<Long, List<ItemResponseInfo>> itemRequestResponsesMap = findResponses(fetchIds(itemRequest));
+
+        return itemRequestMapper.mapToItemRequestInfo(itemRequest, itemRequestResponsesMap.getOrDefault(requestId, emptyList()));
+    }
 
-        return itemRequestMapper.mapToItemRequestInfo(itemRequest, itemRequestResponsesMap.getOrDefault(itemRequest, emptyList()));
+    /**
+     * Ответы на запросы, сгруппированные по id запроса.
+     */
+    private Map<Long, List<ItemResponseInfo>> findResponses(Set<Long> requestIds) {
+        return itemRepository.findResponsesByRequestIds(requestIds).stream()
+                .collect(groupingBy(
+                        ItemRequestResponse::requestId,
+                        mapping(ItemRequestResponse::toItemResponseInfo, toList())
+                ));
     }
 
     private Set<Long> fetchIds(ItemRequest itemRequest) {
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.request.dto;
+
+import ru.practicum.shareit.item.dto.ItemResponseInfo;
+
+/**
+ * Вещь, предложенная в ответ на запрос, читается проекцией без загрузки сущностей.
+ */
+public record ItemRequestResponse(
+        Long requestId,
+        Long itemId,
+        String itemName,
+        Long ownerId
+) {
+    public ItemResponseInfo toItemResponseInfo() {
+        return new ItemResponseInfo(itemId, itemName, ownerId);
+    }
+}
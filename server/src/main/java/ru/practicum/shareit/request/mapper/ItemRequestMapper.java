@@ -3,7 +3,6 @@ package ru.practicum.shareit.request.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
-import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.dto.ItemResponseInfo;
 import ru.practicum.shareit.item.mappers.ItemMapper;
 import ru.practicum.shareit.request.ItemRequest;
@@ -29,17 +28,10 @@ public interface ItemRequestMapper {
     @Mapping(target = "created", qualifiedByName = "instantToLocalDateTime")
     ItemRequestDto mapToItemRequestDto(ItemRequest itemRequest);
 
-    @Mapping(target = "items", qualifiedByName = "toResponseInfo", source = "items")
+    @Mapping(target = "items", source = "items")
     @Mapping(target = "requestorId", source = "itemRequest.requestor.id")
     @Mapping(target = "created", qualifiedByName = "instantToLocalDateTime")
-    ItemRequestInfo mapToItemRequestInfo(ItemRequest itemRequest, List<Item> items);
-
-    @Named("toResponseInfo")
-    default List<ItemResponseInfo> toResponseInfo(List<Item> items) {
-        return items.stream()
-                .map(item -> new ItemResponseInfo(item.getId(), item.getName(), item.getOwner().getId()))
-                .toList();
-    }
+    ItemRequestInfo mapToItemRequestInfo(ItemRequest itemRequest, List<ItemResponseInfo> items);
 
     @Named("instantToLocalDateTime")
     default LocalDateTime map(Instant value) {
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.request.notification;
+
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestResponse;
+
+import java.util.Optional;
+
+/**
+ * На запрос пользователя предложили вещь.
+ *
+ * @param requestorId автор запроса, ему уходит уведомление
+ * @param response    предложенная вещь
+ */
+public record ItemRequestAnsweredEvent(Long requestorId, ItemRequestResponse response) {
+
+    /**
+     * Событие для сохраненной вещи, если она предложена в ответ на запрос.
+     */
+    public static Optional<ItemRequestAnsweredEvent> of(Item item) {
+        ItemRequest itemRequest = item.getRequest();
+        if (itemRequest == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ItemRequestAnsweredEvent(
+                itemRequest.getRequestor().getId(),
+                new ItemRequestResponse(itemRequest.getId(), item.getId(), item.getName(), item.getOwner().getId())
+        ));
+    }
+}
@@ -0,0 +1,160 @@
+package ru.practicum.shareit.request.notification;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.request.dto.ItemRequestResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Рассылает авторам запросов предложенные вещи через Server-Sent Events.
+ * У каждого подключения своя ограниченная очередь: медленный клиент не копит память сервера,
+ * при переполнении соединение закрывается, и клиент перечитывает свои запросы после переподключения.
+ * Запись в соединение идет в отдельном виртуальном потоке, поэтому обработчик события не ждет клиентов.
+ */
+@Slf4j
+@Component
+public class ItemRequestNotifier {
+    static final String RESPONSE_EVENT = "response";
+    static final String KEEPALIVE_COMMENT = "keepalive";
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService keepAlive = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("request-notifier-keepalive").daemon().factory());
+    private final Duration timeout;
+    private final int bufferSize;
+
+    public ItemRequestNotifier(
+            @Value("${shareit.requests.sse.timeout:30m}") Duration timeout,
+            @Value("${shareit.requests.sse.buffer-size:100}") int bufferSize,
+            @Value("${shareit.requests.sse.keepalive:15s}") Duration keepAliveInterval
+    ) {
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        long interval = keepAliveInterval.toMillis();
+        // Комментарий не дает прокси и gateway закрыть простаивающее соединение по таймауту чтения
+        keepAlive.scheduleWithFixedDelay(this::pingAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscription));
+        subscriptions.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        // Первый комментарий сразу отправляет заголовки ответа
+        subscription.ping();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestAnswered(ItemRequestAnsweredEvent event) {
+        subscriptions.getOrDefault(event.requestorId(), Set.of())
+                .forEach(subscription -> subscription.push(event.response()));
+    }
+
+    int countSubscriptions(Long userId) {
+        return subscriptions.getOrDefault(userId, Set.of()).size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        keepAlive.shutdownNow();
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(s -> s.emitter.complete()));
+        senders.shutdown();
+    }
+
+    private void pingAll() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(Subscription::ping));
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.userId, (id, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+    private class Subscription {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ItemRequestResponse> events;
+        private final AtomicBoolean pingPending = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscription(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.events = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void push(ItemRequestResponse response) {
+            if (!events.offer(response)) {
+                log.warn("Notification buffer of userId({}) is full, closing connection", userId);
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            send();
+        }
+
+        void ping() {
+            pingPending.set(true);
+            send();
+        }
+
+        /**
+         * В соединение пишет не больше одного потока за раз, остальные только пополняют очередь.
+         */
+        private void send() {
+            if (!sending.compareAndSet(false, true)) {
+                return;
+            }
+            senders.execute(() -> {
+                try {
+                    drain();
+                } catch (IOException | IllegalStateException e) {
+                    // Клиент отключился или соединение уже закрыто
+                    log.debug("Failed to notify userId({}): {}", userId, e.getMessage());
+                    unsubscribe(this);
+                    return;
+                } finally {
+                    sending.set(false);
+                }
+                if (pingPending.get() || !events.isEmpty()) {
+                    send();
+                }
+            });
+        }
+
+        private void drain() throws IOException {
+            if (pingPending.getAndSet(false)) {
+                emitter.send(SseEmitter.event().comment(KEEPALIVE_COMMENT));
+            }
+            ItemRequestResponse response;
+            while ((response = events.poll()) != null) {
+                emitter.send(SseEmitter.event()
+                        .name(RESPONSE_EVENT)
+                        .id(String.valueOf(response.itemId()))
+                        .data(response));
+            }
+        }
+    }
+}
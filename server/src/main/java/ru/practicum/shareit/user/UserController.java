@@ -27,6 +27,11 @@ public class UserController {
         return userService.saveUser(userDto);
     }
 
+    @PostMapping("/batch")
+    public List<UserDto> saveNewUsers(@RequestBody List<UserDto> userDtos) {
+        return userService.saveUsers(userDtos);
+    }
+
     @GetMapping("/{id}")
     public UserDto getUserById(@PathVariable("id") String id) {
         return userService.getUserById(Long.valueOf(id));
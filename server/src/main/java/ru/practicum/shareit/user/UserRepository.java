@@ -1,13 +1,26 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.config.CacheConfig;
 
+import java.util.Collection;
 import java.util.Optional;
 
+/**
+ * Поиск пользователя по id и email кэшируется, изменения пользователя сбрасывают кэш в UserServiceImpl.
+ */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, unless = "#result == null")
+    Optional<User> findById(Long id);
+
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, unless = "#result == null")
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    boolean existsByEmailIn(Collection<String> emails);
+}
@@ -11,6 +11,8 @@ public interface UserService {
 
     UserDto saveUser(UserDto user);
 
+    List<UserDto> saveUsers(List<UserDto> users);
+
     UserDto updateUser(Long userId, UpdateUserRequest request);
 
     void deleteUserById(Long userId);
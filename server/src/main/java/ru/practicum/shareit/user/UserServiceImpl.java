@@ -1,22 +1,34 @@
 package ru.practicum.shareit.user;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.common.AlreadyExistsException;
 import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mappers.UserMapper;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
 
 @Service
 @RequiredArgsConstructor
 class UserServiceImpl implements UserService {
+    private static final int BATCH_FLUSH_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -29,6 +41,28 @@ class UserServiceImpl implements UserService {
         return userMapper.mapToDto(user);
     }
 
+    @Override
+    @Transactional
+    public List<UserDto> saveUsers(List<UserDto> userDtos) {
+        Set<String> emails = userDtos.stream()
+                .map(UserDto::getEmail)
+                .collect(toSet());
+        if (emails.size() < userDtos.size() || userRepository.existsByEmailIn(emails)) {
+            throw new AlreadyExistsException("errors.409.users.email");
+        }
+        List<UserDto> saved = new ArrayList<>(userDtos.size());
+        for (UserDto userDto : userDtos) {
+            User user = userRepository.save(userMapper.mapToEntity(userDto));
+            saved.add(userMapper.mapToDto(user));
+            // Вставки уходят пачками по hibernate.jdbc.batch_size, а контекст персистентности не растёт
+            if (saved.size() % BATCH_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return saved;
+    }
+
     @Override
     public UserDto getUserById(Long userId) {
         return userRepository.findById(userId)
@@ -49,17 +83,31 @@ class UserServiceImpl implements UserService {
         if ((userOptional.isPresent()) && (!userOptional.get().getId().equals(userId))) {
             throw new AlreadyExistsException("errors.409.users.email");
         }
-        User user = userRepository.findById(userId)
+        User cachedUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("errors.404.users"));
+        // Экземпляр из кэша общий, поэтому изменяем копию
+        User user = User.of(cachedUser.getId(), cachedUser.getEmail(), cachedUser.getName());
         user = userMapper.updateUserFields(user, request);
 
         userRepository.save(user);
+        evictFromCache(cachedUser);
+        evictFromCache(user);
 
         return userMapper.mapToDto(user);
     }
 
     @Override
     public void deleteUserById(Long userId) {
+        Optional<User> user = userRepository.findById(userId);
         userRepository.deleteById(userId);
+        // Вытесняем после удаления, иначе параллельное чтение успеет вернуть в кэш удаляемого пользователя
+        user.ifPresent(this::evictFromCache);
+    }
+
+    private void evictFromCache(User user) {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.USERS)).evict(user.getId());
+        if (user.getEmail() != null) {
+            Objects.requireNonNull(cacheManager.getCache(CacheConfig.USERS_BY_EMAIL)).evict(user.getEmail());
+        }
     }
 }
\ No newline at end of file
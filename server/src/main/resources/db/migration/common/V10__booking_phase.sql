@@ -0,0 +1,18 @@
+-- lifecycle phase of a booking, advanced FUTURE -> CURRENT -> PAST by the scheduler;
+-- rows inserted bypassing the application start as FUTURE and are caught up on the next run
+ALTER TABLE booking ADD COLUMN phase VARCHAR(15) DEFAULT 'FUTURE' NOT NULL;
+
+UPDATE booking
+SET phase = CASE
+    WHEN end_date <= CURRENT_TIMESTAMP THEN 'PAST'
+    WHEN start_date <= CURRENT_TIMESTAMP THEN 'CURRENT'
+    ELSE 'FUTURE'
+END;
+
+-- bookings of a booker and of an owner in one phase in listing order, keyset pagination by (start_date, id)
+CREATE INDEX IF NOT EXISTS idx_booking_booker_phase_start_id ON booking (user_id, phase, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_booking_owner_phase_start_id ON booking (owner_id, phase, start_date DESC, id DESC);
+
+-- scheduler transitions: FUTURE -> CURRENT by start_date, CURRENT -> PAST by end_date
+CREATE INDEX IF NOT EXISTS idx_booking_phase_start ON booking (phase, start_date);
+CREATE INDEX IF NOT EXISTS idx_booking_phase_end ON booking (phase, end_date);
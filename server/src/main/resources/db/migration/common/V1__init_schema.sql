@@ -1,32 +1,24 @@
-CREATE TYPE public.booking_status AS ENUM (
-    'WAITING',
-    'APPROVED',
-    'REJECTED',
-    'CANCELED'
-    );
-
-CREATE TABLE IF NOT EXISTS public.users
+CREATE TABLE IF NOT EXISTS users
 (
     id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     email VARCHAR(255),
-    name  VARCHAR(255),
-    CONSTRAINT uq_user_email UNIQUE (email)
+    name  VARCHAR(255)
 );
 
-CREATE TABLE IF NOT EXISTS public.request
+CREATE TABLE IF NOT EXISTS request
 (
     id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     description  VARCHAR(255),
     requestor_id BIGINT,
-    created      TIMESTAMP WITHOUT TIME ZONE,
+    created      TIMESTAMP WITH TIME ZONE,
     CONSTRAINT fk_users_request_id FOREIGN KEY (requestor_id) REFERENCES users (id)
 );
 
-CREATE TABLE IF NOT EXISTS public.item
+CREATE TABLE IF NOT EXISTS item
 (
     id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     name         VARCHAR(255),
-    description  VARCHAR(200),
+    description  VARCHAR(255),
     is_available BOOLEAN,
     owner_id     BIGINT,
     request_id   BIGINT,
@@ -34,11 +26,11 @@ CREATE TABLE IF NOT EXISTS public.item
     CONSTRAINT fk_items_request_id FOREIGN KEY (request_id) REFERENCES request (id)
 );
 
-CREATE TABLE IF NOT EXISTS public.booking
+CREATE TABLE IF NOT EXISTS booking
 (
     id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-    start_date TIMESTAMP WITHOUT TIME ZONE,
-    end_date   TIMESTAMP WITHOUT TIME ZONE,
+    start_date TIMESTAMP WITH TIME ZONE,
+    end_date   TIMESTAMP WITH TIME ZONE,
     item_id    BIGINT,
     user_id    BIGINT,
     status     VARCHAR(15),
@@ -46,13 +38,13 @@ CREATE TABLE IF NOT EXISTS public.booking
     CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item (id)
 );
 
-CREATE TABLE IF NOT EXISTS public.comment
+CREATE TABLE IF NOT EXISTS comment
 (
     id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     text       VARCHAR(255),
     item_id    BIGINT,
     author_id  BIGINT,
-    created_at TIMESTAMP WITHOUT TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE,
     CONSTRAINT fk_comments_item_id FOREIGN KEY (item_id) REFERENCES item (id),
     CONSTRAINT fk_comments_author_id FOREIGN KEY (author_id) REFERENCES users (id)
-);
\ No newline at end of file
+);
@@ -0,0 +1,14 @@
+-- last/next bookings of items, bookings of an item by period
+CREATE INDEX IF NOT EXISTS idx_booking_item_start ON booking (item_id, start_date);
+-- bookings of a booker by state
+CREATE INDEX IF NOT EXISTS idx_booking_booker_status_start ON booking (user_id, status, start_date);
+-- items of an owner
+CREATE INDEX IF NOT EXISTS idx_item_owner ON item (owner_id);
+-- items answering requests
+CREATE INDEX IF NOT EXISTS idx_item_request ON item (request_id);
+-- comments of items
+CREATE INDEX IF NOT EXISTS idx_comment_item ON comment (item_id);
+-- requests of a requestor ordered by creation
+CREATE INDEX IF NOT EXISTS idx_request_requestor_created ON request (requestor_id, created);
+-- user lookup by email, uniqueness is checked by UserServiceImpl
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
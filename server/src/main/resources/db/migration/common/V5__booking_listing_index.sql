@@ -0,0 +1,2 @@
+-- bookings of a booker in listing order, keyset pagination by (start_date, id)
+CREATE INDEX IF NOT EXISTS idx_booking_booker_start_id ON booking (user_id, start_date DESC, id DESC);
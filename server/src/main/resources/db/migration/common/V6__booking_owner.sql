@@ -0,0 +1,9 @@
+-- owner of the booked item, denormalized for the owner bookings listing
+ALTER TABLE booking ADD COLUMN owner_id BIGINT;
+
+UPDATE booking SET owner_id = (SELECT i.owner_id FROM item AS i WHERE i.id = booking.item_id);
+
+ALTER TABLE booking ADD CONSTRAINT fk_bookings_owner_id FOREIGN KEY (owner_id) REFERENCES users (id);
+
+-- bookings of an owner in listing order, keyset pagination by (start_date, id)
+CREATE INDEX IF NOT EXISTS idx_booking_owner_start_id ON booking (owner_id, start_date DESC, id DESC);
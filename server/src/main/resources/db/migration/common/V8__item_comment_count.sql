@@ -0,0 +1,9 @@
+-- number of comments of an item, incremented together with each new comment
+ALTER TABLE item ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE item SET comment_count = (SELECT count(*) FROM comment AS c WHERE c.item_id = item.id);
+
+-- latest comments of an item, also serves lookups by item_id
+CREATE INDEX IF NOT EXISTS idx_comment_item_created ON comment (item_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_comment_item;
@@ -0,0 +1,7 @@
+-- requests of a requestor in listing order, keyset pagination by (created, id)
+CREATE INDEX IF NOT EXISTS idx_request_requestor_created_id ON request (requestor_id, created DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_request_requestor_created;
+
+-- feed of other users' requests in listing order, keyset pagination by (created, id)
+CREATE INDEX IF NOT EXISTS idx_request_created_id ON request (created DESC, id DESC);
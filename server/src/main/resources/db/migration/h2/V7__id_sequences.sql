@@ -0,0 +1,27 @@
+-- pooled sequences (allocationSize 50, pooled-lo optimizer) replace identity columns so inserts can be batched
+-- each sequence continues after the ids already taken, the column default keeps plain SQL inserts on the same sequence
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE users_seq RESTART WITH (SELECT coalesce(max(id), 0) + 1 FROM users);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_seq;
+
+CREATE SEQUENCE IF NOT EXISTS request_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE request_seq RESTART WITH (SELECT coalesce(max(id), 0) + 1 FROM request);
+ALTER TABLE request ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE request ALTER COLUMN id SET DEFAULT NEXT VALUE FOR request_seq;
+
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE item_seq RESTART WITH (SELECT coalesce(max(id), 0) + 1 FROM item);
+ALTER TABLE item ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE item ALTER COLUMN id SET DEFAULT NEXT VALUE FOR item_seq;
+
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE booking_seq RESTART WITH (SELECT coalesce(max(id), 0) + 1 FROM booking);
+ALTER TABLE booking ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE booking ALTER COLUMN id SET DEFAULT NEXT VALUE FOR booking_seq;
+
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE comment_seq RESTART WITH (SELECT coalesce(max(id), 0) + 1 FROM comment);
+ALTER TABLE comment ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE comment ALTER COLUMN id SET DEFAULT NEXT VALUE FOR comment_seq;
@@ -0,0 +1,4 @@
+-- full-text search over available items, expression must match ItemRepository.searchItemsByFullText
+CREATE INDEX IF NOT EXISTS idx_item_search ON item
+    USING GIN (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(description, '')))
+    WHERE is_available = true;
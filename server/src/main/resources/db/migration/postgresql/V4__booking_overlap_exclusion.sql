@@ -0,0 +1,7 @@
+-- подтверждённые бронирования одной вещи не пересекаются, проверка идёт по GiST-индексу ограничения
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE booking
+    ADD CONSTRAINT ex_booking_item_period
+        EXCLUDE USING gist (item_id WITH =, tstzrange(start_date, end_date, '[)') WITH &&)
+        WHERE (status = 'APPROVED');
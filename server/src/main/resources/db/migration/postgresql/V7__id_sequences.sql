@@ -0,0 +1,27 @@
+-- pooled sequences (allocationSize 50, pooled-lo optimizer) replace identity columns so inserts can be batched
+-- each sequence continues after the ids already taken, the column default keeps plain SQL inserts on the same sequence
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('users_seq', coalesce(max(id), 0) + 1, false) FROM users;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+CREATE SEQUENCE IF NOT EXISTS request_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('request_seq', coalesce(max(id), 0) + 1, false) FROM request;
+ALTER TABLE request ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE request ALTER COLUMN id SET DEFAULT nextval('request_seq');
+
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('item_seq', coalesce(max(id), 0) + 1, false) FROM item;
+ALTER TABLE item ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE item ALTER COLUMN id SET DEFAULT nextval('item_seq');
+
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('booking_seq', coalesce(max(id), 0) + 1, false) FROM booking;
+ALTER TABLE booking ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE booking ALTER COLUMN id SET DEFAULT nextval('booking_seq');
+
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('comment_seq', coalesce(max(id), 0) + 1, false) FROM comment;
+ALTER TABLE comment ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE comment ALTER COLUMN id SET DEFAULT nextval('comment_seq');
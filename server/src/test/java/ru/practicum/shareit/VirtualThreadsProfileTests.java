@@ -0,0 +1,31 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.config.VirtualThreadPinningMonitor;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadsProfileTests {
+
+    @Autowired
+    AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    VirtualThreadPinningMonitor pinningMonitor;
+
+    @Test
+    void tasksShouldRunOnVirtualThreads() throws ExecutionException, InterruptedException {
+        boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+        assertThat(virtual).isTrue();
+        assertThat(pinningMonitor.isRunning()).isTrue();
+    }
+}
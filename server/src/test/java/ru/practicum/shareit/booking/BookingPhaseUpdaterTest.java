@@ -0,0 +1,103 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.testbuilder.BookingTestBuilder;
+import ru.practicum.shareit.testbuilder.ItemTestBuilder;
+import ru.practicum.shareit.testbuilder.UserTestBuilder;
+import ru.practicum.shareit.user.User;
+
+import java.time.Instant;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@Transactional
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingPhaseUpdaterTest {
+
+    private final BookingPhaseUpdater updater;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager em;
+
+    @Test
+    void persist_shouldFillPhaseFromDates() {
+        // given
+        Instant now = Instant.now();
+        User user = UserTestBuilder.aUser().build();
+        em.persist(user);
+        Item item = ItemTestBuilder.anItem().withOwner(user).build();
+        em.persist(item);
+
+        // when
+        Booking past = persistBooking(item, user, now.minus(3, DAYS), now.minus(1, DAYS));
+        Booking current = persistBooking(item, user, now.minus(1, DAYS), now.plus(1, DAYS));
+        Booking future = persistBooking(item, user, now.plus(1, DAYS), now.plus(3, DAYS));
+
+        // then
+        assertThat(past.getPhase(), equalTo(Phase.PAST));
+        assertThat(current.getPhase(), equalTo(Phase.CURRENT));
+        assertThat(future.getPhase(), equalTo(Phase.FUTURE));
+    }
+
+    @Test
+    void advance_shouldMovePhasesForward_whenBoundariesPassed() {
+        // given
+        Instant now = Instant.now();
+        User user = UserTestBuilder.aUser().build();
+        em.persist(user);
+        Item item = ItemTestBuilder.anItem().withOwner(user).build();
+        em.persist(item);
+        // Фазы, сохраненные до того, как время перешло границы
+        Booking started = persistBooking(item, user, now.minus(1, DAYS), now.plus(1, DAYS));
+        started.setPhase(Phase.FUTURE);
+        Booking finished = persistBooking(item, user, now.minus(3, DAYS), now.minus(2, DAYS));
+        finished.setPhase(Phase.CURRENT);
+        Booking missed = persistBooking(item, user, now.minus(5, DAYS), now.minus(4, DAYS));
+        missed.setPhase(Phase.FUTURE);
+        Booking future = persistBooking(item, user, now.plus(1, DAYS), now.plus(3, DAYS));
+        double startedBefore = transitions(Phase.CURRENT);
+        double finishedBefore = transitions(Phase.PAST);
+
+        // when
+        updater.advance();
+
+        // then
+        em.clear();
+        assertThat(em.find(Booking.class, started.getId()).getPhase(), equalTo(Phase.CURRENT));
+        assertThat(em.find(Booking.class, finished.getId()).getPhase(), equalTo(Phase.PAST));
+        assertThat(em.find(Booking.class, missed.getId()).getPhase(), equalTo(Phase.PAST));
+        assertThat(em.find(Booking.class, future.getId()).getPhase(), equalTo(Phase.FUTURE));
+        assertThat(transitions(Phase.CURRENT) - startedBefore, equalTo(2.0));
+        assertThat(transitions(Phase.PAST) - finishedBefore, equalTo(2.0));
+        double lag = meterRegistry.get(BookingPhaseUpdater.LAG).gauge().value();
+        assertThat(lag, greaterThanOrEqualTo(0.0));
+        assertThat(lag, lessThan(60.0));
+    }
+
+    private Booking persistBooking(Item item, User booker, Instant start, Instant end) {
+        Booking booking = BookingTestBuilder.aBooking()
+                .withItem(item)
+                .withBooker(booker)
+                .withStart(start)
+                .withEnd(end)
+                .withStatus(Status.APPROVED)
+                .build();
+        em.persist(booking);
+        return booking;
+    }
+
+    private double transitions(Phase phase) {
+        return meterRegistry.get(BookingPhaseUpdater.TRANSITIONS).tag("phase", phase.name()).counter().count();
+    }
+}
@@ -5,12 +5,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.booking.dto.ItemBooking;
 import ru.practicum.shareit.item.ItemRepository;
 
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -32,11 +34,48 @@ class BookingRepositoryTest {
     void findLastBooking_shouldReturnLastClosestAndNextClosestBooking_whenBookingExists() {
         // given
         Set<Long> itemsIds = Set.of(1L);
-        List<Booking> bookings = bookingRepository.findByItemsIdsLastBookings(itemsIds);
-        bookings.addAll(bookingRepository.findByItemsIdsNextBookings(itemsIds));
+        List<ItemBooking> bookings = bookingRepository.findLastAndNextBookings(itemsIds);
         assertThat(bookings)
                 .hasSize(2)
-                .extracting(Booking::getId)
+                .extracting(ItemBooking::id)
                 .containsExactlyInAnyOrder(2L, 3L);
     }
+
+    @Test
+    @Sql({
+            "/db/sql/users.sql",
+            "/db/sql/request.sql",
+            "/db/sql/item.sql",
+            "/db/sql/booking.sql"
+    })
+    void findLastAndNextBookings_shouldReturnNothing_whenBookingsAreBookedToday() {
+        // given
+        Set<Long> itemsIds = Set.of(2L);
+
+        // when
+        List<ItemBooking> bookings = bookingRepository.findLastAndNextBookings(itemsIds);
+
+        // then
+        assertThat(bookings).isEmpty();
+    }
+
+    @Test
+    @Sql({
+            "/db/sql/users.sql",
+            "/db/sql/request.sql",
+            "/db/sql/item.sql",
+            "/db/sql/booking.sql"
+    })
+    void findLastAndNextBookings_shouldReturnBookerOfEachBooking() {
+        // given
+        Set<Long> itemsIds = Set.of(1L, 2L);
+
+        // when
+        List<ItemBooking> bookings = bookingRepository.findLastAndNextBookings(itemsIds);
+
+        // then
+        assertThat(bookings)
+                .extracting(ItemBooking::id, ItemBooking::past, ItemBooking::bookerId)
+                .containsExactlyInAnyOrder(tuple(2L, true, 3L), tuple(3L, false, 4L));
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
@@ -58,9 +59,10 @@ class BookingServiceImplTest {
                 final BookingRepository bookingRepository,
                 final UserRepository userRepository,
                 final ItemRepository itemRepository,
-                final BookingMapper bookingMapper
+                final BookingMapper bookingMapper,
+                final ApplicationEventPublisher eventPublisher
         ) {
-            return new BookingServiceImpl(bookingRepository, userRepository, itemRepository, bookingMapper);
+            return new BookingServiceImpl(bookingRepository, userRepository, itemRepository, bookingMapper, eventPublisher);
         }
     }
 
@@ -248,7 +250,7 @@ class BookingServiceImplTest {
         Booking pastBooking = pastCurrentFutureBookings.getFirst();
 
         // when
-        List<BookingDto> pastBookings = bookingService.getByState(user.getId(), State.PAST);
+        List<BookingDto> pastBookings = bookingService.getByState(user.getId(), State.PAST, 0, 10, null);
 
         // then
         assertThat(pastBookings.size(), equalTo(1));
@@ -272,7 +274,7 @@ class BookingServiceImplTest {
         Booking currentBooking = pastCurrentFutureBookings.get(1);
 
         // when
-        List<BookingDto> currentBookings = bookingService.getByState(user.getId(), State.CURRENT);
+        List<BookingDto> currentBookings = bookingService.getByState(user.getId(), State.CURRENT, 0, 10, null);
 
         // then
         assertThat(currentBookings.size(), equalTo(1));
@@ -296,7 +298,7 @@ class BookingServiceImplTest {
         Booking futureBooking = pastCurrentFutureBookings.getLast();
 
         // when
-        List<BookingDto> futureBookings = bookingService.getByState(user.getId(), State.FUTURE);
+        List<BookingDto> futureBookings = bookingService.getByState(user.getId(), State.FUTURE, 0, 10, null);
 
         // then
         assertThat(futureBookings.size(), equalTo(1));
@@ -320,7 +322,7 @@ class BookingServiceImplTest {
         Booking futureBooking = pastCurrentFutureBookings.getLast();
 
         // when
-        List<BookingDto> futureBookings = bookingService.getByState(user.getId(), State.WAITING);
+        List<BookingDto> futureBookings = bookingService.getByState(user.getId(), State.WAITING, 0, 10, null);
 
         // then
         assertThat(futureBookings.size(), equalTo(1));
@@ -351,7 +353,7 @@ class BookingServiceImplTest {
         em.persist(rejectedBooking);
 
         // when
-        List<BookingDto> rejectedBookings = bookingService.getByState(user.getId(), State.REJECTED);
+        List<BookingDto> rejectedBookings = bookingService.getByState(user.getId(), State.REJECTED, 0, 10, null);
 
         // then
         assertThat(rejectedBookings.size(), equalTo(1));
@@ -362,36 +364,88 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void getByOwner_shouldReturnThreeBookings_whenUserHasThreeAndStatusIsWaiting() {
+    void getByState_shouldReturnPageOrderedByStartDesc_whenFromAndSizeAreGiven() {
+        // given
+        User user = UserTestBuilder.aUser().build();
+        em.persist(user);
+        Item item = ItemTestBuilder.anItem().withOwner(user).build();
+        em.persist(item);
+        List<Booking> pastCurrentFutureBookings = getPastCurrentFutureBookings(item, user);
+        pastCurrentFutureBookings.forEach(em::persist);
+
+        // when
+        List<BookingDto> bookings = bookingService.getByState(user.getId(), State.ALL, 1, 2, null);
+
+        // then
+        assertThat(bookings.size(), equalTo(2));
+        assertThat(bookings.get(0).getId(), equalTo(pastCurrentFutureBookings.get(1).getId()));
+        assertThat(bookings.get(1).getId(), equalTo(pastCurrentFutureBookings.get(0).getId()));
+    }
+
+    @Test
+    void getByState_shouldReturnBookingsAfterCursor_whenCursorIsGiven() {
+        // given
+        User user = UserTestBuilder.aUser().build();
+        em.persist(user);
+        Item item = ItemTestBuilder.anItem().withOwner(user).build();
+        em.persist(item);
+        List<Booking> pastCurrentFutureBookings = getPastCurrentFutureBookings(item, user);
+        pastCurrentFutureBookings.forEach(em::persist);
+        Long cursor = pastCurrentFutureBookings.get(2).getId();
+
+        // when
+        List<BookingDto> bookings = bookingService.getByState(user.getId(), State.ALL, 0, 1, cursor);
+
+        // then
+        assertThat(bookings.size(), equalTo(1));
+        assertThat(bookings.getFirst().getId(), equalTo(pastCurrentFutureBookings.get(1).getId()));
+    }
+
+    @Test
+    void getByOwner_shouldReturnTwoBookings_whenOwnerHasTwoWaitingBookings() {
         // given
         var sourceUsers = new UserPersister().setEntityManager(em).getPersistedData();
         var sourceItemRequests = new ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
         var sourceItems = new ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
         var sourceBookings = new BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
-        Long ownerId = sourceUsers.get(4).getId();
+        Long ownerId = sourceUsers.getFirst().getId();
 
         // when
-        var bookings = bookingService.getByOwner(ownerId, State.WAITING);
+        var bookings = bookingService.getByOwner(ownerId, State.WAITING, 0, 10, null);
 
         // then
-        assertThat(bookings.size(), equalTo(3));
+        assertThat(bookings.size(), equalTo(2));
+        assertThat(bookings.get(0).getId(), equalTo(sourceBookings.get(3).getId()));
+        assertThat(bookings.get(1).getId(), equalTo(sourceBookings.get(2).getId()));
     }
 
     @Test
-    void getByOwner_shouldThrowNotFoundException_whenUserDoesNotHaveAnyBookings() {
+    void getByOwner_shouldReturnEmptyList_whenOwnerDoesNotHaveAnyBookings() {
         // given
         var sourceUsers = new UserPersister().setEntityManager(em).getPersistedData();
         var sourceItemRequests = new ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
         var sourceItems = new ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
         var sourceBookings = new BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
+        Long bookerId = sourceUsers.get(4).getId();
+
+        // when
+        var bookings = bookingService.getByOwner(bookerId, State.ALL, 0, 10, null);
+
+        // then
+        assertThat(bookings.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void getByOwner_shouldThrowNotFoundException_whenUserDoesNotExist() {
+        // given
         Long ownerId = 12345L;
 
         // when
-        Executable getByOwner = () -> bookingService.getByOwner(ownerId, State.WAITING);
+        Executable getByOwner = () -> bookingService.getByOwner(ownerId, State.WAITING, 0, 10, null);
 
         // then
         var notFoundException = assertThrows(NotFoundException.class, getByOwner);
-        assertThat(notFoundException.getMessage(), equalTo("errors.404.bookings"));
+        assertThat(notFoundException.getMessage(), equalTo("errors.404.users"));
     }
 
     @Test
@@ -475,6 +529,68 @@ class BookingServiceImplTest {
         assertThat(notFoundException.getMessage(), equalTo("errors.404.bookings"));
     }
 
+    @Test
+    void save_shouldThrowUnavailableItemException_whenApprovedBookingOverlaps() {
+        // given
+        var owner = UserTestBuilder.aUser().build();
+        em.persist(owner);
+        var item = ItemTestBuilder.anItem().withOwner(owner).build();
+        em.persist(item);
+        var booker = UserTestBuilder.aUser().build();
+        em.persist(booker);
+        var approvedBooking = BookingTestBuilder.aBooking()
+                .withItem(item)
+                .withBooker(booker)
+                .withStart(NOW.plus(1, DAYS))
+                .withEnd(NOW.plus(5, DAYS))
+                .withStatus(Status.APPROVED)
+                .build();
+        em.persist(approvedBooking);
+
+        NewBookingRequest request = new NewBookingRequest(NOW_LDT.plusDays(3), NOW_LDT.plusDays(7), item.getId());
+
+        // when
+        Executable addNewBooking = () -> bookingService.save(booker.getId(), request);
+
+        // then
+        var unavailableItemException = assertThrows(UnavailableItemException.class, addNewBooking);
+        assertThat(unavailableItemException.getMessage(), equalTo("errors.400.bookings.overlap"));
+    }
+
+    @Test
+    void update_shouldThrowUnavailableItemException_whenApprovedBookingOverlaps() {
+        // given
+        var owner = UserTestBuilder.aUser().build();
+        em.persist(owner);
+        var item = ItemTestBuilder.anItem().withOwner(owner).build();
+        em.persist(item);
+        var booker = UserTestBuilder.aUser().build();
+        em.persist(booker);
+        var approvedBooking = BookingTestBuilder.aBooking()
+                .withItem(item)
+                .withBooker(booker)
+                .withStart(NOW.plus(1, DAYS))
+                .withEnd(NOW.plus(5, DAYS))
+                .withStatus(Status.APPROVED)
+                .build();
+        em.persist(approvedBooking);
+        var waitingBooking = BookingTestBuilder.aBooking()
+                .withItem(item)
+                .withBooker(booker)
+                .withStart(NOW.plus(4, DAYS))
+                .withEnd(NOW.plus(6, DAYS))
+                .build();
+        em.persist(waitingBooking);
+
+        // when
+        Executable updateBooking = () -> bookingService.update(owner.getId(), waitingBooking.getId(), Boolean.TRUE);
+
+        // then
+        var unavailableItemException = assertThrows(UnavailableItemException.class, updateBooking);
+        assertThat(unavailableItemException.getMessage(), equalTo("errors.400.bookings.overlap"));
+        assertThat(waitingBooking.getStatus(), equalTo(Status.WAITING));
+    }
+
     private List<Booking> getPastCurrentFutureBookings(Item item, User user) {
         Booking pastBooking = BookingTestBuilder.aBooking()
                 .withItem(item)
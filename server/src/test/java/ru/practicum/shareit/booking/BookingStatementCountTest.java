@@ -0,0 +1,151 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.NewBookingRequest;
+import ru.practicum.shareit.config.PersistEntity;
+import ru.practicum.shareit.config.StatementCounter;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Число SQL-запросов на эндпоинт не зависит от числа бронирований в ответе.
+ */
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingStatementCountTest {
+
+    private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper json;
+    private final EntityManager em;
+
+    @Test
+    void get_shouldExecuteOneStatement() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        var sourceBookings = new PersistEntity.BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
+        long userId = sourceUsers.getFirst().getId();
+        long bookingId = sourceBookings.getFirst().getId();
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        mockMvc.perform(get("/bookings/" + bookingId).header(X_SHARER_USER_ID, userId))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(statements.count(), equalTo(1L));
+    }
+
+    @Test
+    void getByState_shouldExecuteOneStatement_whenBookerHasManyBookings() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        new PersistEntity.BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
+        long bookerId = sourceUsers.get(4).getId();
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        mockMvc.perform(get("/bookings").header(X_SHARER_USER_ID, bookerId).param("state", "ALL"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(3)
+                );
+
+        // then
+        assertThat(statements.count(), equalTo(1L));
+    }
+
+    @Test
+    void getByOwner_shouldExecuteTwoStatements_whenOwnerHasManyBookings() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        new PersistEntity.BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
+        long ownerId = sourceUsers.getFirst().getId();
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        mockMvc.perform(get("/bookings/owner").header(X_SHARER_USER_ID, ownerId).param("state", "ALL"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(4)
+                );
+
+        // then: проверка пользователя и сама выборка
+        assertThat(statements.count(), equalTo(2L));
+    }
+
+    @Test
+    void add_shouldExecuteFourStatementsAndSequenceCallOncePerAllocation() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        long bookerId = sourceUsers.get(1).getId();
+        var request = new NewBookingRequest(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+                sourceItems.getFirst().getId());
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        mockMvc.perform(
+                        post("/bookings")
+                                .header(X_SHARER_USER_ID, bookerId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json.writeValueAsString(request))
+                )
+                .andExpect(status().isOk());
+
+        // then: пользователь, вещь, проверка пересечений и вставка,
+        // а на первую из каждых 50 вставок ещё и выборка из booking_seq
+        assertThat(statements.count(), anyOf(equalTo(4L), equalTo(5L)));
+    }
+
+    @Test
+    void edit_shouldExecuteFourStatements_whenBookingIsApproved() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        var sourceBookings = new PersistEntity.BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
+        long ownerId = sourceUsers.getFirst().getId();
+        long bookingId = sourceBookings.get(2).getId();
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        mockMvc.perform(
+                        patch("/bookings/" + bookingId)
+                                .header(X_SHARER_USER_ID, ownerId)
+                                .param("approved", "true")
+                )
+                .andExpect(status().isOk());
+
+        // then: бронирование, блокировка вещи, проверка пересечений и обновление
+        assertThat(statements.count(), equalTo(4L));
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShareItExceptionTest {
+
+    @Test
+    void orElseThrow_shouldThrowExceptionWithoutStackTrace_whenEntityIsMissing() {
+        // when
+        var exception = assertThrows(
+                NotFoundException.class,
+                () -> Optional.empty().orElseThrow(() -> new NotFoundException("errors.404.items"))
+        );
+
+        // then
+        assertThat(exception.getMessage(), equalTo("errors.404.items"));
+        assertThat(exception.getHttpStatus(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(exception.getStackTrace(), arrayWithSize(0));
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class CacheConfigTest {
+
+    @Test
+    void expireAfterCreate_shouldExpireAtMidnight_whenMidnightIsCloserThanTtl() {
+        // given
+        var clock = Clock.fixed(Instant.parse("2024-06-01T23:55:00Z"), ZoneOffset.UTC);
+        var expiry = new CacheConfig.UntilMidnightExpiry(Duration.ofMinutes(10), clock);
+
+        // when
+        var expiresIn = expiry.expireAfterCreate(1L, "item", 0);
+
+        // then
+        assertThat(expiresIn, equalTo(Duration.ofMinutes(5).toNanos()));
+    }
+
+    @Test
+    void expireAfterCreate_shouldExpireAfterTtl_whenMidnightIsFar() {
+        // given
+        var clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+        var expiry = new CacheConfig.UntilMidnightExpiry(Duration.ofMinutes(10), clock);
+
+        // when
+        var expiresIn = expiry.expireAfterCreate(1L, "item", 0);
+
+        // then
+        assertThat(expiresIn, equalTo(Duration.ofMinutes(10).toNanos()));
+    }
+}
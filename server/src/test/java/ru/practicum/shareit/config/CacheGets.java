@@ -0,0 +1,22 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Счётчик обращений к кэшу из метрики cache.gets. Счётчики общие для всего контекста,
+ * поэтому тесты сравнивают значения до и после действия.
+ */
+public final class CacheGets {
+
+    private CacheGets() {
+    }
+
+    public static double count(MeterRegistry meterRegistry, String cache, String result) {
+        var counter = meterRegistry.find("cache.gets").tags("cache", cache, "result", result).functionCounter();
+        assertThat(counter, notNullValue());
+        return counter.count();
+    }
+}
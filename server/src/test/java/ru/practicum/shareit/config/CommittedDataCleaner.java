@@ -0,0 +1,27 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.Objects;
+
+/**
+ * Удаляет данные, зафиксированные тестом, и очищает кэши, чтобы они не попали в другие тесты на той же базе.
+ */
+public class CommittedDataCleaner implements AfterEachCallback {
+    // Порядок учитывает внешние ключи
+    private static final String[] TABLES = {"comment", "booking", "item", "request", "users"};
+
+    @Override
+    public void afterEach(ExtensionContext extensionContext) {
+        ApplicationContext context = SpringExtension.getApplicationContext(extensionContext);
+        JdbcTestUtils.deleteFromTables(context.getBean(JdbcTemplate.class), TABLES);
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Тест без транзакции: изменения фиксируются, поэтому срабатывают обработчики после фиксации и сброс кэшей.
+ * Все такие тесты используют один контекст с кэшами Caffeine: данные готовит {@link RestFixture},
+ * а после каждого теста {@link CommittedDataCleaner} удаляет зафиксированные данные.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@AutoConfigureMockMvc
+@ExtendWith(CommittedDataCleaner.class)
+@Import(RestFixture.class)
+public @interface PostCommitTest {
+}
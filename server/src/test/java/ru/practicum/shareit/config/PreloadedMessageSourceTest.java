@@ -0,0 +1,43 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static ru.practicum.shareit.common.advice.GlobalExceptionHandler.EMPTY_ARGS;
+
+class PreloadedMessageSourceTest {
+
+    private final PreloadedMessageSource messageSource =
+            new PreloadedMessageSource("classpath:message", List.of(Locale.ROOT, Locale.ENGLISH));
+
+    @Test
+    void getMessage_shouldFallbackToLanguage_whenCountryIsNotLoaded() {
+        // when
+        var message = messageSource.getMessage("errors.404.items", EMPTY_ARGS, Locale.US);
+
+        // then
+        assertThat(message, equalTo("Item not found"));
+    }
+
+    @Test
+    void getMessage_shouldFallbackToBaseFile_whenLanguageIsNotLoaded() {
+        // when
+        var message = messageSource.getMessage("errors.404.items", EMPTY_ARGS, Locale.FRANCE);
+
+        // then
+        assertThat(message, equalTo("Вещь не найдена"));
+    }
+
+    @Test
+    void getMessage_shouldReturnDefault_whenCodeIsUnknown() {
+        // when
+        var message = messageSource.getMessage("errors.404.unknown", EMPTY_ARGS, "default", Locale.ENGLISH);
+
+        // then
+        assertThat(message, equalTo("default"));
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.NewBookingRequest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Готовит данные через REST API для тестов {@link PostCommitTest}: каждый вызов фиксирует свою транзакцию.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class RestFixture {
+    private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper json;
+
+    public long addUser(String email) throws Exception {
+        return send(post("/users"), new UserDto(null, email, "user"), UserDto.class).getId();
+    }
+
+    public long addItem(long ownerId) throws Exception {
+        return addItem(ownerId, null);
+    }
+
+    public long addItem(long ownerId, @Nullable Long requestId) throws Exception {
+        ItemDto item = new ItemDto(null, "Drill", "Cordless drill", true, requestId);
+        return send(post("/items").header(X_SHARER_USER_ID, ownerId), item, ItemDto.class).getId();
+    }
+
+    public long addRequest(long requestorId) throws Exception {
+        ItemRequestDto request = new ItemRequestDto();
+        request.setDescription("need a drill");
+        request.setCreated(LocalDateTime.now());
+        return send(post("/requests").header(X_SHARER_USER_ID, requestorId), request, ItemRequestDto.class).getId();
+    }
+
+    public long addBooking(long bookerId, long itemId, LocalDateTime start, LocalDateTime end) throws Exception {
+        NewBookingRequest booking = new NewBookingRequest(start, end, itemId);
+        return send(post("/bookings").header(X_SHARER_USER_ID, bookerId), booking, BookingDto.class).getId();
+    }
+
+    private <T> T send(MockHttpServletRequestBuilder request, Object body, Class<T> responseType) throws Exception {
+        var response = mockMvc.perform(
+                        request.contentType(MediaType.APPLICATION_JSON)
+                                .content(json.writeValueAsString(body))
+                )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return json.readValue(response, responseType);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Считает SQL-запросы по статистике Hibernate (hibernate.generate_statistics включён в профиле test).
+ */
+public final class StatementCounter {
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    private StatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public static StatementCounter of(EntityManager entityManager) {
+        return new StatementCounter(entityManager);
+    }
+
+    /**
+     * Записывает подготовленные данные в БД, очищает контекст персистентности, чтобы
+     * сущности не брались из него, и обнуляет счётчик.
+     */
+    public StatementCounter start() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return this;
+    }
+
+    /**
+     * Число запросов с момента start(), включая ещё не сброшенные в БД изменения.
+     */
+    public long count() {
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.config.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.method.HandlerMethod;
+import ru.practicum.shareit.config.PersistEntity;
+import ru.practicum.shareit.config.StatementCounter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SqlMetricsConfigTest {
+
+    private final MockMvc mockMvc;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager em;
+
+    @Test
+    void get_shouldRecordSqlMetricsPerControllerMethod() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        var sourceBookings = new PersistEntity.BookingPersister(sourceItems, sourceUsers).setEntityManager(em).getPersistedData();
+        long userId = sourceUsers.getFirst().getId();
+        long bookingId = sourceBookings.getFirst().getId();
+        StatementCounter.of(em).start();
+
+        // when
+        mockMvc.perform(get("/bookings/" + bookingId).header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk());
+
+        // then
+        var statements = meterRegistry.get(SqlMetricsInterceptor.STATEMENTS)
+                .tags("controller", "BookingController", "method", "get")
+                .summary();
+        var entityLoads = meterRegistry.get(SqlMetricsInterceptor.ENTITY_LOADS)
+                .tags("controller", "BookingController", "method", "get")
+                .summary();
+        var jdbcTime = meterRegistry.get(SqlMetricsInterceptor.JDBC_TIME)
+                .tags("controller", "BookingController", "method", "get")
+                .timer();
+        assertThat(statements.count(), equalTo(1L));
+        assertThat(statements.totalAmount(), equalTo(1.0));
+        // бронирование, вещь и арендатор
+        assertThat(entityLoads.totalAmount(), equalTo(3.0));
+        assertThat(jdbcTime.totalTime(TimeUnit.NANOSECONDS), greaterThan(0.0));
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_shouldReleaseRequestStats() throws Exception {
+        // given
+        var interceptor = new SqlMetricsInterceptor(meterRegistry);
+        var handler = new HandlerMethod(new Object(), "toString");
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+
+        // when
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        // then
+        assertThat(SqlRequestStats.current(), nullValue());
+    }
+}
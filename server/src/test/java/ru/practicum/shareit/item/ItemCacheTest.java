@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.config.CacheGets;
+import ru.practicum.shareit.config.PostCommitTest;
+import ru.practicum.shareit.config.RestFixture;
+import ru.practicum.shareit.item.dto.UpdateItemRequest;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Сброс кэша происходит после фиксации изменений, поэтому тест не транзакционный.
+ */
+@PostCommitTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemCacheTest {
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper json;
+    private final MeterRegistry meterRegistry;
+    private final RestFixture fixture;
+
+    @Test
+    void getItem_shouldServeFromCacheAndEvict_whenItemOrBookingsChange() throws Exception {
+        // given
+        long ownerId = fixture.addUser("owner@cache.test");
+        long bookerId = fixture.addUser("booker@cache.test");
+        long itemId = fixture.addItem(ownerId);
+        double hits = cacheGets("hit");
+        double misses = cacheGets("miss");
+        getItem(ownerId, itemId)
+                .andExpect(jsonPath("$.name").value("Drill"));
+
+        // when
+        getItem(ownerId, itemId);
+
+        // then
+        assertThat(cacheGets("hit"), equalTo(hits + 1));
+        assertThat(cacheGets("miss"), equalTo(misses + 1));
+
+        // when
+        var updateRequest = new UpdateItemRequest();
+        updateRequest.setName("Hammer drill");
+        mockMvc.perform(
+                        patch("/items/{itemId}", itemId)
+                                .header("X-Sharer-User-Id", ownerId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json.writeValueAsString(updateRequest))
+                )
+                .andExpect(status().isOk());
+
+        // then
+        getItem(ownerId, itemId)
+                .andExpect(jsonPath("$.name").value("Hammer drill"));
+
+        // when
+        fixture.addBooking(bookerId, itemId, LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(3));
+
+        // then
+        getItem(ownerId, itemId)
+                .andExpect(jsonPath("$.nextBooking.booker.id").value(bookerId));
+        assertThat(cacheGets("miss"), equalTo(misses + 3));
+    }
+
+    @Test
+    void getItem_shouldStayCached_whenBookingIsRejected() throws Exception {
+        // given
+        long ownerId = fixture.addUser("owner@reject.test");
+        long bookerId = fixture.addUser("booker@reject.test");
+        long itemId = fixture.addItem(ownerId);
+        long bookingId = fixture.addBooking(bookerId, itemId, LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(3));
+        getItem(ownerId, itemId);
+        double hits = cacheGets("hit");
+        double misses = cacheGets("miss");
+
+        // when
+        mockMvc.perform(
+                        patch("/bookings/{bookingId}", bookingId)
+                                .header("X-Sharer-User-Id", ownerId)
+                                .param("approved", "false")
+                )
+                .andExpect(status().isOk());
+
+        // then
+        getItem(ownerId, itemId);
+        assertThat(cacheGets("hit"), equalTo(hits + 1));
+        assertThat(cacheGets("miss"), equalTo(misses));
+    }
+
+    private ResultActions getItem(long userId, long itemId) throws Exception {
+        return mockMvc.perform(get("/items/{itemId}", itemId).header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk());
+    }
+
+    private double cacheGets(String result) {
+        return CacheGets.count(meterRegistry, CacheConfig.ITEMS, result);
+    }
+}
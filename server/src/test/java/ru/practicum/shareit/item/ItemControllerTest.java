@@ -15,10 +15,12 @@ import ru.practicum.shareit.item.comment.dto.NewCommentRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -83,6 +85,55 @@ class ItemControllerTest {
                 );
     }
 
+    @Test
+    @Sql({
+            "/db/sql/users.sql",
+            "/db/sql/request.sql",
+            "/db/sql/item.sql"
+    })
+    void getItemsByQuery_shouldReturnRequestedPage_whenFromAndSizeArePresent() throws Exception {
+        // given
+        var query = "Item response for 1";
+
+        // when
+        mockMvc.perform(
+                        get("/items/search")
+                                .param("text", query)
+                                .param("from", "1")
+                                .param("size", "1")
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(4)
+                );
+    }
+
+    @Test
+    @Sql({
+            "/db/sql/users.sql",
+            "/db/sql/request.sql",
+            "/db/sql/item.sql"
+    })
+    void getItemsByQuery_shouldStreamItemsAsNdjson_whenNdjsonIsAccepted() throws Exception {
+        // given
+        var query = "Item of first user";
+
+        // when
+        mockMvc.perform(
+                        get("/items/search")
+                                .param("text", query)
+                                .accept(MediaType.APPLICATION_NDJSON)
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON),
+                        content().string(containsString("\"name\":\"Item of first user\""))
+                );
+    }
+
     @Test
     @Sql({
             "/db/sql/users.sql",
@@ -254,6 +305,78 @@ class ItemControllerTest {
         // $..[0].comments -> поле comments первого элемента из списка
     }
 
+    @Test
+    @Sql({
+            "/db/sql/users.sql",
+            "/db/sql/request.sql",
+            "/db/sql/item.sql",
+            "/db/sql/booking.sql",
+            "/db/sql/comment.sql"
+    })
+    void getComments_shouldReturnPageOfLatestComments_whenCommentsAreExist() throws Exception {
+        // given
+        var itemId = 1;
+
+        // when
+        mockMvc.perform(
+                        get("/items/{itemId}/comments", itemId)
+                                .param("from", "1")
+                                .param("size", "1")
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(2),
+                        jsonPath("$[0].item.id").value(itemId)
+                );
+    }
+
+    @Test
+    void getComments_shouldReturnNotFound_whenItemDoesNotExist() throws Exception {
+        // when
+        mockMvc.perform(get("/items/{itemId}/comments", 123123))
+                // then
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Sql({
+            "/db/sql/users.sql",
+            "/db/sql/request.sql",
+            "/db/sql/item.sql",
+            "/db/sql/booking.sql"
+    })
+    void saveComment_shouldIncrementCommentCount_whenCommentIsSaved() throws Exception {
+        // given
+        long itemId = 1;
+        long userId = 2;
+        var request = new NewCommentRequest("Nice!");
+
+        // when
+        mockMvc.perform(
+                        post("/items/{itemId}/comment", itemId)
+                                .header("X-Sharer-User-Id", userId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json.writeValueAsString(request))
+                )
+                .andExpect(status().isOk());
+        // счетчик меняется запросом в базе, минуя загруженную в тестовую транзакцию вещь
+        em.flush();
+        em.clear();
+
+        // then
+        mockMvc.perform(
+                        get("/items/{itemId}", itemId)
+                                .header("X-Sharer-User-Id", userId)
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.commentCount").value(1),
+                        jsonPath("$.comments.length()").value(1)
+                );
+    }
+
     @Test
     @Sql({
             "/db/sql/users.sql",
@@ -329,4 +452,90 @@ class ItemControllerTest {
                         status().isBadRequest()
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    void importItems_shouldSaveValidRowsAndReportInvalid_whenNdjsonIsUploaded() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var userId = sourceUsers.getFirst().getId();
+        var requestId = sourceItemRequests.getFirst().getId();
+        var body = String.join("\n",
+                "{\"name\": \"Drill\", \"description\": \"Cordless drill\", \"available\": true, \"requestId\": " + requestId + "}",
+                "{\"name\": \" \", \"description\": \"No name\", \"available\": true}",
+                "",
+                "{\"name\": \"Broken\",",
+                "{\"name\": \"Ladder\", \"description\": \"Folding ladder\", \"available\": false}",
+                "{\"name\": \"Saw\", \"description\": \"Hand saw\", \"available\": true, \"requestId\": 999999}"
+        );
+
+        // when
+        mockMvc.perform(
+                        post("/items/import")
+                                .header("X-Sharer-User-Id", userId)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(body)
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.imported").value(2),
+                        jsonPath("$.failed").value(3),
+                        jsonPath("$.errors[0].row").value(2),
+                        jsonPath("$.errors[0].message").value("Empty name"),
+                        jsonPath("$.errors[1].row").value(4),
+                        jsonPath("$.errors[2].row").value(6),
+                        jsonPath("$.errors[2].message").value("Request not found")
+                );
+        mockMvc.perform(
+                        get("/items")
+                                .header("X-Sharer-User-Id", userId)
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$[?(@.name == 'Drill')].request.id").value(requestId.intValue()),
+                        jsonPath("$[?(@.name == 'Ladder')].available").value(false)
+                );
+    }
+
+    @Test
+    void importItems_shouldParseQuotedFields_whenCsvIsUploaded() throws Exception {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var userId = sourceUsers.getFirst().getId();
+        var body = """
+                available,name,description,requestId
+                true,"Tent, 2 persons","Says ""waterproof""
+                on the label",
+                maybe,Kayak,Inflatable kayak,
+                true,Stove,,
+                """;
+
+        // when
+        mockMvc.perform(
+                        post("/items/import")
+                                .header("X-Sharer-User-Id", userId)
+                                .contentType("text/csv")
+                                .content(body)
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.imported").value(1),
+                        jsonPath("$.failed").value(2),
+                        jsonPath("$.errors[0].row").value(2),
+                        jsonPath("$.errors[0].message").value("Row could not be parsed"),
+                        jsonPath("$.errors[1].row").value(3),
+                        jsonPath("$.errors[1].message").value("Invalid description")
+                );
+        mockMvc.perform(
+                        get("/items")
+                                .header("X-Sharer-User-Id", userId)
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$[?(@.name == 'Tent, 2 persons')].description")
+                                .value("Says \"waterproof\"\non the label")
+                );
+    }
+}
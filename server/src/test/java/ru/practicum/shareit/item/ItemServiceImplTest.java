@@ -3,17 +3,22 @@ package ru.practicum.shareit.item;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.common.BadRequestException;
 import ru.practicum.shareit.common.ForbiddenException;
+import ru.practicum.shareit.common.NotFoundException;
 import ru.practicum.shareit.config.MappersConfig;
 import ru.practicum.shareit.config.PersistEntity;
+import ru.practicum.shareit.config.StatementCounter;
+import ru.practicum.shareit.item.comment.Comment;
 import ru.practicum.shareit.item.comment.CommentRepository;
 import ru.practicum.shareit.item.comment.dto.NewCommentRequest;
 import ru.practicum.shareit.item.comment.mapper.CommentMapper;
@@ -21,17 +26,22 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.search.LikeItemSearch;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.testbuilder.BookingTestBuilder;
 import ru.practicum.shareit.testbuilder.ItemTestBuilder;
 import ru.practicum.shareit.user.UserRepository;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -57,8 +67,10 @@ class ItemServiceImplTest {
                 CommentRepository commentRepository,
                 ItemRequestRepository itemRequestRepository,
                 ItemMapper itemMapper,
-                CommentMapper commentMapper) {
-            return new ItemServiceImpl(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository, itemMapper, commentMapper);
+                CommentMapper commentMapper,
+                EntityManager em,
+                ApplicationEventPublisher eventPublisher) {
+            return new ItemServiceImpl(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository, itemMapper, commentMapper, new LikeItemSearch(itemRepository), em, eventPublisher);
         }
     }
 
@@ -80,6 +92,48 @@ class ItemServiceImplTest {
         assertThat(addedNewItem.getRequestId(), notNullValue());
     }
 
+    @Test
+    void addNewItems_shouldInsertItemsInJdbcBatches() {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var user = sourceUsers.getFirst();
+        var itemRequest = sourceItemRequests.getFirst();
+        List<ItemDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            var item = ItemTestBuilder.anItem().withOwner(user).withRequest(i % 2 == 0 ? itemRequest : null).build();
+            itemDtos.add(itemMapper.mapToDto(item));
+        }
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        var addedItems = itemService.addNewItems(user.getId(), itemDtos);
+
+        // then
+        assertThat(addedItems.size(), equalTo(120));
+        assertThat(addedItems.stream().map(ItemDto::getId).distinct().count(), equalTo(120L));
+        assertThat(addedItems.getFirst().getRequestId(), equalTo(itemRequest.getId()));
+        assertThat(addedItems.get(1).getRequestId(), nullValue());
+        // пользователь, запросы, по выборке из item_seq на 50 вставок и три пачки вставок
+        assertThat(statements.count(), lessThanOrEqualTo(9L));
+    }
+
+    @Test
+    void addNewItems_shouldThrowNotFoundException_whenRequestDoesNotExist() {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var user = sourceUsers.getFirst();
+        var itemDto = itemMapper.mapToDto(ItemTestBuilder.anItem().withOwner(user).build());
+        itemDto.setRequestId(12345L);
+
+        // when
+        Executable addNewItems = () -> itemService.addNewItems(user.getId(), List.of(itemDto));
+
+        // then
+        var notFoundException = assertThrows(NotFoundException.class, addNewItems);
+        assertThat(notFoundException.getMessage(), equalTo("errors.404.requests"));
+    }
+
     @Test
     void addNewItem_shoudAddItem_whenRequestIdIsNull() {
         // given
@@ -204,6 +258,34 @@ class ItemServiceImplTest {
         assertThat(items.getFirst().getId(), notNullValue());
     }
 
+    @Test
+    void getItems_shouldEmbedOnlyLatestComments_whenItemHasManyComments() {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var user = sourceUsers.getFirst();
+        var item = ItemTestBuilder.anItem().withOwner(user).build();
+        em.persist(item);
+        var created = Instant.now().minus(1, ChronoUnit.DAYS);
+        for (int i = 0; i < ItemServiceImpl.LATEST_COMMENTS + 2; i++) {
+            var comment = new Comment();
+            comment.setAuthor(user);
+            comment.setItem(item);
+            comment.setText("comment " + i);
+            comment.setCreated(created.plusSeconds(i));
+            em.persist(comment);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<ItemInfoDto> items = itemService.getItems(user.getId());
+
+        // then
+        var comments = items.getFirst().getComments();
+        assertThat(comments.size(), equalTo(ItemServiceImpl.LATEST_COMMENTS));
+        assertThat(comments.getFirst().text(), equalTo("comment " + (ItemServiceImpl.LATEST_COMMENTS + 1)));
+    }
+
     @Test
     void getItemsByFilter_shouldReturnEmptyList_whenTextIsBlank() {
         // given
@@ -213,7 +295,7 @@ class ItemServiceImplTest {
         var text = "";
 
         // when
-        List<ItemDto> items = itemService.getItemsByFilter(text);
+        List<ItemDto> items = itemService.getItemsByFilter(text, 0, 10, null);
 
         // then
         assertThat(items.isEmpty(), is(true));
@@ -228,13 +310,49 @@ class ItemServiceImplTest {
         var text = "Item of first user";
 
         // when
-        List<ItemDto> items = itemService.getItemsByFilter(text);
+        List<ItemDto> items = itemService.getItemsByFilter(text, 0, 10, null);
 
         // then
         assertThat(items.isEmpty(), is(false));
         assertThat(items.size(), equalTo(1));
     }
 
+    @Test
+    void getItemsByFilter_shouldReturnItemsAfterCursor_whenCursorIsPresent() {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        var text = "Item of first user";
+        var itemId = itemService.getItemsByFilter(text, 0, 10, null).getFirst().getId();
+
+        // when
+        List<ItemDto> before = itemService.getItemsByFilter(text, 0, 10, itemId - 1);
+        List<ItemDto> after = itemService.getItemsByFilter(text, 0, 10, itemId);
+
+        // then
+        assertThat(before.size(), equalTo(1));
+        assertThat(before.getFirst().getId(), equalTo(itemId));
+        assertThat(after, is(empty()));
+    }
+
+    @Test
+    void streamItemsByFilter_shouldPassEveryFoundItem() {
+        // given
+        var sourceUsers = new PersistEntity.UserPersister().setEntityManager(em).getPersistedData();
+        var sourceItemRequests = new PersistEntity.ItemRequestPersister(sourceUsers).setEntityManager(em).getPersistedData();
+        var sourceItems = new PersistEntity.ItemPersister(sourceUsers, sourceItemRequests).setEntityManager(em).getPersistedData();
+        var text = "Item of first user";
+        List<ItemDto> streamed = new ArrayList<>();
+
+        // when
+        itemService.streamItemsByFilter(text, streamed::add);
+
+        // then
+        assertThat(streamed.size(), equalTo(1));
+        assertThat(streamed.getFirst().getName(), equalTo(text));
+    }
+
     @Test
     void deleteItem_shouldDeleteItem_whenUserIsOwner() {
         // given
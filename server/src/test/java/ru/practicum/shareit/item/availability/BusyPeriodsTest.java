@@ -0,0 +1,135 @@
+package ru.practicum.shareit.item.availability;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.util.converter.InstantConverter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+class BusyPeriodsTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void of_shouldMergeOverlappingAndAdjacentBookings() {
+        // given
+        List<BookingPeriod> periods = List.of(
+                period(10, 12),
+                period(1, 3),
+                period(2, 5),
+                period(5, 6)
+        );
+
+        // when
+        BusyPeriods busy = BusyPeriods.of(periods);
+
+        // then
+        assertThat(busy.size(), equalTo(2));
+        assertThat(busy.slots(instant(0), instant(24)), contains(
+                free(0, 1),
+                busy(1, 6),
+                free(6, 10),
+                busy(10, 12),
+                free(12, 24)
+        ));
+    }
+
+    @Test
+    void withBusy_shouldMergeWithNeighbours_whenNewPeriodBridgesThem() {
+        // given
+        BusyPeriods busy = BusyPeriods.of(List.of(period(1, 3), period(5, 7), period(10, 12)));
+
+        // when
+        BusyPeriods updated = busy.withBusy(instant(3), instant(6));
+
+        // then
+        assertThat(updated.size(), equalTo(2));
+        assertThat(updated.slots(instant(0), instant(13)), contains(
+                free(0, 1),
+                busy(1, 7),
+                free(7, 10),
+                busy(10, 12),
+                free(12, 13)
+        ));
+        assertThat(busy.size(), equalTo(3));
+    }
+
+    @Test
+    void withBusy_shouldInsertInOrder_whenNewPeriodIsSeparate() {
+        // given
+        BusyPeriods busy = BusyPeriods.of(List.of(period(1, 2), period(10, 12)));
+
+        // when
+        BusyPeriods updated = busy.withBusy(instant(5), instant(6));
+
+        // then
+        assertThat(updated.slots(instant(0), instant(13)), contains(
+                free(0, 1),
+                busy(1, 2),
+                free(2, 5),
+                busy(5, 6),
+                free(6, 10),
+                busy(10, 12),
+                free(12, 13)
+        ));
+    }
+
+    @Test
+    void withBusy_shouldNotChangePeriods_whenBookingIsAlreadyKnown() {
+        // given
+        BusyPeriods busy = BusyPeriods.of(List.of(period(1, 3)));
+
+        // when
+        BusyPeriods updated = busy.withBusy(instant(1), instant(3));
+
+        // then
+        assertThat(updated.size(), equalTo(1));
+        assertThat(updated.slots(instant(0), instant(4)), contains(free(0, 1), busy(1, 3), free(3, 4)));
+    }
+
+    @Test
+    void slots_shouldClipBusyPeriodsToRequestedRange() {
+        // given
+        BusyPeriods busy = BusyPeriods.of(List.of(period(1, 5), period(8, 20)));
+
+        // when
+        List<AvailabilitySlot> slots = busy.slots(instant(3), instant(10));
+
+        // then
+        assertThat(slots, contains(busy(3, 5), free(5, 8), busy(8, 10)));
+    }
+
+    @Test
+    void slots_shouldReturnSingleFreeSlot_whenNoBookingFallsIntoRange() {
+        // given
+        BusyPeriods busy = BusyPeriods.of(List.of(period(30, 40)));
+
+        // when
+        List<AvailabilitySlot> slots = busy.slots(instant(0), instant(24));
+
+        // then
+        assertThat(slots, contains(free(0, 24)));
+    }
+
+    private static BookingPeriod period(int fromHour, int toHour) {
+        return new BookingPeriod(instant(fromHour), instant(toHour));
+    }
+
+    private static Instant instant(int hour) {
+        return InstantConverter.toInstant(DAY.plusHours(hour));
+    }
+
+    private static AvailabilitySlot free(int fromHour, int toHour) {
+        return new AvailabilitySlot(DAY.plusHours(fromHour), DAY.plusHours(toHour), true);
+    }
+
+    private static AvailabilitySlot busy(int fromHour, int toHour) {
+        return new AvailabilitySlot(DAY.plusHours(fromHour), DAY.plusHours(toHour), false);
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.item.availability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.practicum.shareit.config.CacheGets;
+import ru.practicum.shareit.config.PostCommitTest;
+import ru.practicum.shareit.config.RestFixture;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Календарь дополняется после фиксации подтверждения, поэтому тест не транзакционный.
+ */
+@PostCommitTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemAvailabilityTest {
+
+    private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+    private final MockMvc mockMvc;
+    private final MeterRegistry meterRegistry;
+    private final RestFixture fixture;
+
+    @Test
+    void getAvailability_shouldUpdateLoadedCalendar_whenBookingIsApproved() throws Exception {
+        // given
+        long ownerId = fixture.addUser("owner@availability.test");
+        long bookerId = fixture.addUser("booker@availability.test");
+        long itemId = fixture.addItem(ownerId);
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime to = from.plusDays(3);
+        long bookingId = fixture.addBooking(bookerId, itemId, from.plusDays(1), from.plusDays(2));
+        getAvailability(itemId, from, to)
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].free").value(true));
+        double misses = cacheGets("miss");
+        double hits = cacheGets("hit");
+
+        // when
+        mockMvc.perform(
+                        patch("/bookings/{bookingId}", bookingId)
+                                .header(X_SHARER_USER_ID, ownerId)
+                                .param("approved", "true")
+                )
+                .andExpect(status().isOk());
+
+        // then
+        getAvailability(itemId, from, to)
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].free").value(true))
+                .andExpect(jsonPath("$[1].start").value(ISO_LOCAL_DATE_TIME.format(from.plusDays(1))))
+                .andExpect(jsonPath("$[1].end").value(ISO_LOCAL_DATE_TIME.format(from.plusDays(2))))
+                .andExpect(jsonPath("$[1].free").value(false))
+                .andExpect(jsonPath("$[2].free").value(true));
+        // Календарь не перечитан из базы, а дополнен событием подтверждения
+        assertThat(cacheGets("miss"), equalTo(misses));
+        assertThat(cacheGets("hit"), equalTo(hits + 1));
+    }
+
+    @Test
+    void getAvailability_shouldReturnNotFound_whenItemIsDeleted() throws Exception {
+        // given
+        long ownerId = fixture.addUser("deleted@availability.test");
+        long itemId = fixture.addItem(ownerId);
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        getAvailability(itemId, from, from.plusDays(1));
+
+        // when
+        mockMvc.perform(delete("/items/{itemId}", itemId).header(X_SHARER_USER_ID, ownerId))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(
+                        get("/items/{itemId}/availability", itemId)
+                                .param("from", from.toString())
+                                .param("to", from.plusDays(1).toString())
+                )
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAvailability_shouldReturnBadRequest_whenRangeIsEmpty() throws Exception {
+        // given
+        long ownerId = fixture.addUser("range@availability.test");
+        long itemId = fixture.addItem(ownerId);
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        // when
+        mockMvc.perform(
+                        get("/items/{itemId}/availability", itemId)
+                                .param("from", from.toString())
+                                .param("to", from.toString())
+                )
+                // then
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions getAvailability(long itemId, LocalDateTime from, LocalDateTime to) throws Exception {
+        return mockMvc.perform(
+                        get("/items/{itemId}/availability", itemId)
+                                .param("from", from.toString())
+                                .param("to", to.toString())
+                )
+                .andExpect(status().isOk());
+    }
+
+    private double cacheGets(String result) {
+        return CacheGets.count(meterRegistry, ItemAvailability.CACHE_NAME, result);
+    }
+}
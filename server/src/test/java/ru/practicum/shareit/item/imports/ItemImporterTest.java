@@ -0,0 +1,93 @@
+package ru.practicum.shareit.item.imports;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.config.PostCommitTest;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.testbuilder.UserTestBuilder;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Порции фиксируются каждая в своей транзакции, поэтому тест не транзакционный.
+ */
+@PostCommitTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemImporterTest {
+
+    private final ItemImporter importer;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importItems_shouldNotKeepSavedItemsInRequestEntityManager_whenRowsSpanSeveralChunks() throws Exception {
+        // given
+        User owner = userRepository.save(UserTestBuilder.aUser().withEmail("chunks@import.test").build());
+        int rows = ItemImporter.CHUNK_SIZE * 2 + 1;
+        // Как open-in-view: у запроса один EntityManager, транзакции порций присоединяются к нему
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+
+        // when
+        ItemImportReport report;
+        int managedEntities;
+        try {
+            report = importer.importItems(owner.getId(), ItemImportFormat.NDJSON, ndjson(rows, 0), StandardCharsets.UTF_8);
+            managedEntities = requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+
+        // then
+        assertThat(report.imported(), equalTo((long) rows));
+        assertThat(report.failed(), equalTo(0L));
+        assertThat(managedEntities, equalTo(0));
+        assertThat(itemRepository.findByOwnerId(owner.getId()).size(), equalTo(rows));
+    }
+
+    @Test
+    void importItems_shouldRejectWholeChunk_whenChunkFailsToSave() throws Exception {
+        // given
+        User owner = userRepository.save(UserTestBuilder.aUser().withEmail("rollback@import.test").build());
+        int rows = ItemImporter.CHUNK_SIZE + 2;
+        // Имя длиннее колонки проходит проверку строки, но не сохраняется
+        int tooLongNameRow = ItemImporter.CHUNK_SIZE + 2;
+
+        // when
+        ItemImportReport report = importer.importItems(
+                owner.getId(), ItemImportFormat.NDJSON, ndjson(rows, tooLongNameRow), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(report.imported(), equalTo((long) ItemImporter.CHUNK_SIZE));
+        assertThat(report.failed(), equalTo(2L));
+        assertThat(report.errors().stream().map(ItemImportReport.RowError::row).toList(),
+                contains((long) ItemImporter.CHUNK_SIZE + 1, (long) ItemImporter.CHUNK_SIZE + 2));
+        assertThat(itemRepository.findByOwnerId(owner.getId()).size(), equalTo(ItemImporter.CHUNK_SIZE));
+    }
+
+    private static InputStream ndjson(int rows, int tooLongNameRow) {
+        String body = IntStream.rangeClosed(1, rows)
+                .mapToObj(row -> "{\"name\": \"" + (row == tooLongNameRow ? "x".repeat(300) : "Item " + row)
+                        + "\", \"description\": \"Imported\", \"available\": true}")
+                .collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
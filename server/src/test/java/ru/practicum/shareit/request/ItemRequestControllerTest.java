@@ -1,6 +1,7 @@
 package ru.practicum.shareit.request;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,10 +11,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.StatementCounter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.time.LocalDateTime;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -29,6 +33,7 @@ class ItemRequestControllerTest {
     private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
     private final MockMvc mvc;
     private final ObjectMapper json;
+    private final EntityManager em;
 
     @Test
     @Sql({"/db/sql/users.sql"})
@@ -137,6 +142,88 @@ class ItemRequestControllerTest {
                 );
     }
 
+    @Test
+    @Sql({"/db/sql/users.sql", "/db/sql/request.sql", "/db/sql/item.sql"})
+    void get_shouldLoadRequestsAndResponsesWithTwoStatements_whenResponsesExist() throws Exception {
+        // given
+        long userId = 1;
+        var statements = StatementCounter.of(em).start();
+
+        // when
+        mvc.perform(
+                        get("/requests")
+                                .header(X_SHARER_USER_ID, userId)
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$[?(@.id == 1)].items.length()").value(2),
+                        jsonPath("$[?(@.id == 1)].items[0].ownerId").value(2)
+                );
+
+        // then
+        // страница запросов и проекция ответов, без загрузки вещей и их владельцев
+        assertThat(statements.count(), equalTo(2L));
+    }
+
+    @Test
+    @Sql({"/db/sql/users.sql", "/db/sql/request.sql"})
+    void getAll_shouldReturnEmptyList_whenAllRequestsAreOwn() throws Exception {
+        // given
+        long userId = 1;
+
+        // when
+        mvc.perform(
+                        get("/requests/all")
+                                .header(X_SHARER_USER_ID, userId)
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(0)
+                );
+    }
+
+    @Test
+    @Sql({"/db/sql/users.sql", "/db/sql/request.sql"})
+    void getAll_shouldReturnPagesInCreatedAndIdOrder_whenPaginatedByOffsetAndCursor() throws Exception {
+        // given
+        long userId = 2;
+
+        // when
+        mvc.perform(
+                        get("/requests/all")
+                                .header(X_SHARER_USER_ID, userId)
+                                .param("size", "1")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(2)
+                );
+        mvc.perform(
+                        get("/requests/all")
+                                .header(X_SHARER_USER_ID, userId)
+                                .param("from", "1")
+                                .param("size", "1")
+                )
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(1)
+                );
+        mvc.perform(
+                        get("/requests/all")
+                                .header(X_SHARER_USER_ID, userId)
+                                .param("size", "1")
+                                .param("cursor", "2")
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(1)
+                );
+    }
+
     @Test
     @Sql({"/db/sql/users.sql", "/db/sql/request.sql", "/db/sql/item.sql"})
     void get_() throws Exception {
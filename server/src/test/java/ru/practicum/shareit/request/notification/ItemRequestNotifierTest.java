@@ -0,0 +1,146 @@
+package ru.practicum.shareit.request.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.config.PostCommitTest;
+import ru.practicum.shareit.config.RestFixture;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Уведомление уходит после фиксации транзакции, поэтому тест не транзакционный.
+ */
+@PostCommitTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemRequestNotifierTest {
+
+    private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final long WAIT_MILLIS = 5000;
+    private final MockMvc mockMvc;
+    private final ObjectMapper json;
+    private final ItemRequestNotifier notifier;
+    private final RestFixture fixture;
+
+    @Test
+    void subscribe_shouldPushOfferedItemOnlyToRequestor() throws Exception {
+        // given
+        long requestorId = fixture.addUser("requestor@notify.test");
+        long ownerId = fixture.addUser("owner@notify.test");
+        long requestId = fixture.addRequest(requestorId);
+        MvcResult requestorStream = subscribe(requestorId);
+        MvcResult ownerStream = subscribe(ownerId);
+        awaitContent(requestorStream, ":" + ItemRequestNotifier.KEEPALIVE_COMMENT);
+
+        // when
+        long itemId = fixture.addItem(ownerId, requestId);
+
+        // then
+        String event = awaitEvent(requestorStream, ItemRequestNotifier.RESPONSE_EVENT);
+        assertThat(event, containsString("id:" + itemId));
+        assertThat(event, containsString("\"requestId\":" + requestId));
+        assertThat(event, containsString("\"itemName\":\"Drill\""));
+        assertThat(event, containsString("\"ownerId\":" + ownerId));
+        assertThat(ownerStream.getResponse().getContentAsString(),
+                not(containsString("event:" + ItemRequestNotifier.RESPONSE_EVENT)));
+    }
+
+    @Test
+    void subscribe_shouldPushImportedItem_whenRowAnswersRequest() throws Exception {
+        // given
+        long requestorId = fixture.addUser("import-requestor@notify.test");
+        long ownerId = fixture.addUser("import-owner@notify.test");
+        long requestId = fixture.addRequest(requestorId);
+        MvcResult requestorStream = subscribe(requestorId);
+        String rows = String.join("\n",
+                json.writeValueAsString(Map.of("name", "Saw", "description", "Hand saw", "available", true)),
+                json.writeValueAsString(Map.of("name", "Ladder", "description", "Folding ladder", "available", true,
+                        "requestId", requestId))
+        );
+
+        // when
+        mockMvc.perform(
+                        post("/items/import")
+                                .header(X_SHARER_USER_ID, ownerId)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(rows)
+                )
+                .andExpect(status().isOk());
+
+        // then
+        String event = awaitEvent(requestorStream, ItemRequestNotifier.RESPONSE_EVENT);
+        assertThat(event, containsString("\"requestId\":" + requestId));
+        assertThat(event, containsString("\"itemName\":\"Ladder\""));
+        assertThat(event, containsString("\"ownerId\":" + ownerId));
+        assertThat(requestorStream.getResponse().getContentAsString(), not(containsString("Saw")));
+    }
+
+    @Test
+    void subscribe_shouldRemoveSubscription_whenStreamCompletes() throws Exception {
+        // given
+        long requestorId = fixture.addUser("closed@notify.test");
+        MvcResult stream = subscribe(requestorId);
+        assertThat(notifier.countSubscriptions(requestorId), equalTo(1));
+
+        // when
+        stream.getRequest().getAsyncContext().complete();
+
+        // then
+        assertThat(notifier.countSubscriptions(requestorId), equalTo(0));
+    }
+
+    private MvcResult subscribe(long userId) throws Exception {
+        return mockMvc.perform(
+                        get("/requests/subscribe")
+                                .header(X_SHARER_USER_ID, userId)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        String content = stream.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString();
+        }
+        assertThat(content, containsString(expected));
+        return content;
+    }
+
+    /**
+     * SseEmitter пишет событие несколькими порциями, поэтому ждем пустую строку, которой событие заканчивается.
+     */
+    private String awaitEvent(MvcResult stream, String name) throws Exception {
+        String header = "event:" + name + "\n";
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (true) {
+            String content = stream.getResponse().getContentAsString();
+            int start = content.indexOf(header);
+            int end = start < 0 ? -1 : content.indexOf("\n\n", start);
+            if (end >= 0) {
+                return content.substring(start, end);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return fail("Event " + name + " was not completed in " + WAIT_MILLIS + " ms: " + content);
+            }
+            Thread.sleep(20);
+        }
+    }
+}
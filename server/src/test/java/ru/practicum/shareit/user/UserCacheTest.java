@@ -0,0 +1,79 @@
+package ru.practicum.shareit.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import ru.practicum.shareit.common.NotFoundException;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.config.PostCommitTest;
+import ru.practicum.shareit.user.dto.UpdateUserRequest;
+
+import java.util.Objects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@PostCommitTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class UserCacheTest {
+
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    @Test
+    void getUserById_shouldBeServedFromCache_whenUserWasLoadedBefore() {
+        // given
+        var user = userRepository.save(User.of(null, "cached@mail.kz", "Cached"));
+
+        // when
+        userService.getUserById(user.getId());
+        userService.getUserById(user.getId());
+
+        // then
+        assertThat(nativeCache(CacheConfig.USERS).stats().hitCount(), greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    void updateUser_shouldEvictOldAndNewEntries() {
+        // given
+        var user = userRepository.save(User.of(null, "old@mail.kz", "Old"));
+        userRepository.findById(user.getId());
+        userRepository.findByEmail("old@mail.kz");
+        var request = new UpdateUserRequest();
+        request.setEmail("new@mail.kz");
+        request.setName("New");
+
+        // when
+        userService.updateUser(user.getId(), request);
+
+        // then
+        assertThat(nativeCache(CacheConfig.USERS).getIfPresent(user.getId()), nullValue());
+        assertThat(nativeCache(CacheConfig.USERS_BY_EMAIL).getIfPresent("old@mail.kz"), nullValue());
+        assertThat(userService.getUserById(user.getId()).getName(), equalTo("New"));
+        assertThat(userRepository.findByEmail("old@mail.kz").isPresent(), equalTo(false));
+    }
+
+    @Test
+    void deleteUserById_shouldEvictUser() {
+        // given
+        var user = userRepository.save(User.of(null, "deleted@mail.kz", "Deleted"));
+        userService.getUserById(user.getId());
+
+        // when
+        userService.deleteUserById(user.getId());
+
+        // then
+        assertThrows(NotFoundException.class, () -> userService.getUserById(user.getId()));
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) Objects.requireNonNull(cacheManager.getCache(name))).getNativeCache();
+    }
+}
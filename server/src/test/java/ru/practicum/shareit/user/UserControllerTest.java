@@ -13,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -75,6 +77,58 @@ class UserControllerTest {
                 );
     }
 
+    @Test
+    void saveNewUsers_shouldReturnAddedUsers_whenEverythingIsOK() throws Exception {
+        // given
+        UserDto first = new UserDto();
+        first.setName("Bexeiit");
+        first.setEmail("bexeiitatabek@yandex.kz");
+        UserDto second = new UserDto();
+        second.setName("Booker");
+        second.setEmail("booker@yandex.kz");
+
+        // when
+        mvc.perform(
+                        post("/users/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json.writeValueAsString(List.of(first, second)))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                // then
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(2),
+                        jsonPath("$[0].id").exists(),
+                        jsonPath("$[0].email").value("bexeiitatabek@yandex.kz"),
+                        jsonPath("$[1].id").exists(),
+                        jsonPath("$[1].email").value("booker@yandex.kz")
+                );
+    }
+
+    @Test
+    void saveNewUsers_shouldThrowAlreadyExistsException_whenEmailsRepeatInBatch() throws Exception {
+        // given
+        UserDto first = new UserDto();
+        first.setName("Bexeiit");
+        first.setEmail("bexeiitatabek@yandex.kz");
+        UserDto second = new UserDto();
+        second.setName("Bexeiit again");
+        second.setEmail("bexeiitatabek@yandex.kz");
+
+        // when
+        mvc.perform(
+                        post("/users/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json.writeValueAsString(List.of(first, second)))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                // then
+                .andExpectAll(
+                        status().isConflict(),
+                        content().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                );
+    }
+
     @Test
     void getUserById_shouldThrowNotFoundException_whenUserDoesNotExist() throws Exception {
         // given